@@ -0,0 +1,126 @@
+package com.nemo.oceanAcademy.common.cache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 그룹 단위로 무효화하는 조회 결과 캐시.
+ * 항목을 그룹(사용자, 카테고리 등) 별로 묶어 보관하므로, 무효화는 전체를 훑지 않고 해당 그룹만 O(1) 로 제거합니다.
+ * 조회 도중 같은 그룹이 무효화되었으면 조회 결과를 캐시에 넣지 않아, 쓰기 이후 이전 결과가 응답되지 않습니다.
+ * 무효화 여부는 그룹 해시로 나눈 세대(generation) 배열로 판단하므로 전역 잠금이 없고,
+ * 다른 그룹의 무효화는 같은 칸을 쓰는 드문 경우에만 조회 결과 저장을 건너뛰게 합니다.
+ * 유지 시간은 항목마다 저장 시각 기준으로 적용하므로, 같은 그룹에 새 항목이 계속 저장되어도 오래된 항목은 다시 조회됩니다.
+ *
+ * @param <G> 그룹 키
+ * @param <K> 그룹 안의 항목 키
+ * @param <V> 조회 결과 (불변 객체여야 함)
+ */
+public class GroupedCache<G, K, V> {
+
+    private static final int STRIPES = 1024;
+
+    private final Cache<G, Map<K, Entry<V>>> groups;
+    private final int maximumEntriesPerGroup;
+    private final long ttlNanos;
+
+    // 그룹 해시 칸별 무효화 횟수 - 조회 시작 이후 해당 그룹이 무효화되었는지 판단
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    /**
+     * @param name                   메트릭 이름 (cache 태그)
+     * @param maximumGroups          보관할 최대 그룹 수
+     * @param maximumEntriesPerGroup 그룹 하나에 보관할 최대 항목 수 (넘으면 그룹을 새로 시작)
+     * @param ttl                    항목 유지 시간 (저장 기준)
+     * @param meterRegistry          캐시 메트릭 등록
+     */
+    public GroupedCache(String name, long maximumGroups, int maximumEntriesPerGroup, Duration ttl, MeterRegistry meterRegistry) {
+        this.maximumEntriesPerGroup = maximumEntriesPerGroup;
+        this.ttlNanos = ttl.toNanos();
+        this.groups = Caffeine.newBuilder()
+                .maximumSize(maximumGroups)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, groups, name);
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 loader 로 조회 후 저장
+     * @param group  그룹 키
+     * @param key    그룹 안의 항목 키
+     * @param loader 조회
+     * @return V 조회 결과
+     */
+    public V get(G group, K key, Supplier<V> loader) {
+        Map<K, Entry<V>> entries = groups.getIfPresent(group);
+        Entry<V> cached = entries != null ? entries.get(key) : null;
+        if (cached != null && !cached.isExpired(System.nanoTime(), ttlNanos)) {
+            return cached.value();
+        }
+
+        int stripe = stripe(group);
+        long startedAt = generations.get(stripe);
+        V loaded = loader.get();
+
+        // 무효화(세대 증가 후 제거)와 같은 그룹 키에서 직렬화되므로, 세대가 그대로일 때만 저장
+        groups.asMap().compute(group, (g, current) -> {
+            if (generations.get(stripe) != startedAt) {
+                return current;
+            }
+            long now = System.nanoTime();
+            Map<K, Entry<V>> next = new HashMap<>();
+            if (current != null) {
+                current.forEach((k, entry) -> {
+                    if (!entry.isExpired(now, ttlNanos)) {
+                        next.put(k, entry);
+                    }
+                });
+            }
+            if (!next.containsKey(key) && next.size() >= maximumEntriesPerGroup) {
+                next.clear();
+            }
+            next.put(key, new Entry<>(loaded, now));
+            return Map.copyOf(next);
+        });
+        return loaded;
+    }
+
+    // 그룹의 모든 항목 제거
+    public void invalidate(G group) {
+        generations.incrementAndGet(stripe(group));
+        groups.invalidate(group);
+    }
+
+    // 여러 그룹 제거
+    public void invalidateAll(Iterable<? extends G> groupKeys) {
+        for (G group : groupKeys) {
+            invalidate(group);
+        }
+    }
+
+    // 모든 그룹 제거
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        groups.invalidateAll();
+    }
+
+    private record Entry<V>(V value, long writtenAt) {
+        private boolean isExpired(long now, long ttlNanos) {
+            return now - writtenAt >= ttlNanos;
+        }
+    }
+
+    private static int stripe(Object group) {
+        int hash = group.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
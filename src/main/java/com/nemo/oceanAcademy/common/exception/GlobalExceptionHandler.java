@@ -55,6 +55,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    // 강사 일정 충돌 예외 처리
+    @ExceptionHandler(ScheduleConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleScheduleConflictException(ScheduleConflictException ex) {
+        Map<String, Object> errorResponse = createErrorResponse(
+                ex.getMessageKor(),
+                ex.getMessageEng(),
+                HttpStatus.CONFLICT,  // 409 Conflict
+                "Schedule Conflict",
+                ex.getData()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    // 수강 정원 초과 예외 처리
+    @ExceptionHandler(ClassroomFullException.class)
+    public ResponseEntity<Map<String, Object>> handleClassroomFullException(ClassroomFullException ex) {
+        Map<String, Object> errorResponse = createErrorResponse(
+                ex.getMessageKor(),
+                ex.getMessageEng(),
+                HttpStatus.CONFLICT,  // 409 Conflict
+                "Classroom Full",
+                ex.getData()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
 
     // 요청 데이터 유효성 검사 실패
     @ExceptionHandler(MethodArgumentNotValidException.class)
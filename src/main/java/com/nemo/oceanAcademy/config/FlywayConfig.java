@@ -0,0 +1,20 @@
+package com.nemo.oceanAcademy.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * 기존 스키마(Hibernate 가 생성)는 버전 0 으로 기준을 잡고, 그 이후의 마이그레이션만 실행
+     * 마이그레이션은 JavaMigration 빈으로 등록하며 Hibernate DDL 보다 먼저 실행됨
+     */
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
@@ -1,11 +1,18 @@
 package com.nemo.oceanAcademy.config;
 
+import com.nemo.oceanAcademy.domain.chat.dataAccess.entity.Chat;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import reactor.core.publisher.Flux;
 
 @Configuration
 public class MongodbConfig implements InitializingBean {
@@ -14,8 +21,21 @@ public class MongodbConfig implements InitializingBean {
     @Lazy
     private MappingMongoConverter mappingMongoConverter;
 
+    @Autowired
+    @Lazy
+    private ReactiveMongoOperations reactiveMongoOperations;
+
     @Override
     public void afterPropertiesSet() throws Exception {
         mappingMongoConverter.setTypeMapper(new DefaultMongoTypeMapper(null));
     }
+
+    // 엔티티에 선언된 인덱스 생성 (auto-index-creation 이 꺼져 있어도 생성되도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingMongoConverter.getMappingContext());
+        Flux.fromIterable(resolver.resolveIndexFor(Chat.class))
+                .flatMap(index -> reactiveMongoOperations.indexOps(Chat.class).ensureIndex(index))
+                .subscribe();
+    }
 }
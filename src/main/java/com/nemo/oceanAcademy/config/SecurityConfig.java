@@ -47,6 +47,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PATCH, "/api/users").authenticated()                // 사용자 정보 업데이트, 해당 Id 유저만 가능
                         .requestMatchers(HttpMethod.GET, "/api/users").authenticated()                  // 사용자 정보 조회, 해당 Id 유저만 가능
                         .requestMatchers(HttpMethod.GET, "/api/users/checkNickname").permitAll()        // 닉네임 중복 검사
+                        .requestMatchers(HttpMethod.GET, "/api/users/calendar").authenticated()         // 내 캘린더 (수강/개설 강의 전체 일정)
+                        .requestMatchers(HttpMethod.GET, "/api/users/calendar/feed").authenticated()    // 내 캘린더 구독(.ics) 주소
+                        .requestMatchers(HttpMethod.POST, "/api/users/calendar/feed/reset").authenticated()   // 내 캘린더 구독 주소 재발급 (이전 주소 무효화)
 
                         // Kakao
                         .requestMatchers(HttpMethod.GET, "/api/auth/kakao/app-key").permitAll()         // 클라이언트에게 카카오 앱 키 발급
@@ -66,6 +69,7 @@ public class SecurityConfig {
 
                         // Classes
                         .requestMatchers(HttpMethod.PATCH, "/api/classes/{classId}/enroll").authenticated()     // 수강신청, 수강생이 아니고 강사가 아닐때만 가능
+                        .requestMatchers(HttpMethod.POST, "/api/classes/{classId}/enroll/bulk").authenticated() // 일괄 수강 등록, 강사만 가능
                         .requestMatchers(HttpMethod.PATCH, "/api/classes/{classId}").authenticated()            // 강의실 정보 업데이트, 강사만 가능
                         .requestMatchers(HttpMethod.PATCH, "/api/classes/{classId}/delete").authenticated()     // 강의실 삭제, 강사만 가능
                         .requestMatchers(HttpMethod.POST, "/api/classes").authenticated()                       // 새로운 강의실 생성
@@ -78,7 +82,13 @@ public class SecurityConfig {
                         // Schedules
                         .requestMatchers(HttpMethod.DELETE, "/api/classes/{classId}/schedule").authenticated() // 강의 일정 삭제, 강사만 가능
                         .requestMatchers(HttpMethod.POST, "/api/classes/{classId}/schedule").authenticated()        // 강의 일정 생성하기, 강사만 가능
+                        .requestMatchers(HttpMethod.POST, "/api/classes/{classId}/schedule/recurring").authenticated() // 반복 강의 일정 생성하기, 강사만 가능
                         .requestMatchers(HttpMethod.GET, "/api/classes/{classId}/schedule").authenticated()         // 강의 일정 불러오기, 수강자와 강사만 가능
+                        .requestMatchers(HttpMethod.GET, "/api/classes/{classId}/schedule/free-slots").authenticated() // 강사의 빈 시간대 조회, 강사만 가능
+                        .requestMatchers(HttpMethod.GET, "/api/classes/{classId}/schedule/feed").authenticated()   // 강의 일정 구독(.ics) 주소, 수강자와 강사만 가능
+
+                        // iCalendar 피드 (URL 의 HMAC 토큰으로 확인)
+                        .requestMatchers(HttpMethod.GET, "/api/ics/**").permitAll()
                         .anyRequest().permitAll()  // 나머지 요청은 인증 없이 허용
 
                 )
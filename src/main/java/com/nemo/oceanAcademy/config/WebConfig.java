@@ -1,11 +1,22 @@
 package com.nemo.oceanAcademy.config;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // 비동기(Flux, SSE) 응답의 최대 시간 - 채팅 기록 내보내기가 컨테이너 기본값(30초)에 끊기지 않도록 설정
+    @Value("${spring.mvc.async.request-timeout:600000}")
+    private long asyncRequestTimeoutMs;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeoutMs);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -24,6 +35,7 @@ public class WebConfig implements WebMvcConfigurer {
 
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Next-Cursor")     // 강의실 목록 커서 페이지네이션 - 브라우저 스크립트에서 읽을 수 있도록 노출
                 .allowCredentials(true);
     }
 }
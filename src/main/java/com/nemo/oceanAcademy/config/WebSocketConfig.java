@@ -1,7 +1,9 @@
 package com.nemo.oceanAcademy.config;
 import com.nemo.oceanAcademy.domain.chat.application.exception.StompExceptionHandler;
 import com.nemo.oceanAcademy.domain.chat.application.interceptor.FilterChannelInterceptor;
+import com.nemo.oceanAcademy.domain.chat.application.interceptor.SlowConsumerInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +13,7 @@ import org.springframework.security.messaging.context.SecurityContextChannelInte
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
@@ -18,9 +21,77 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final StompExceptionHandler stompExceptionHandler;
     private final FilterChannelInterceptor filterChannelInterceptor;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
+
+    // 브로커 모드 - simple: 서버 내장 브로커 (단일 서버), relay: 외부 STOMP 브로커 중계 (다중 서버)
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${chat.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${chat.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${chat.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
+    // 클라이언트 → 서버 메시지 처리 스레드 풀
+    @Value("${chat.websocket.inbound.core-pool-size:16}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    // 서버 → 클라이언트 메시지 전송 스레드 풀
+    @Value("${chat.websocket.outbound.core-pool-size:16}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size:64}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:50000}")
+    private int outboundQueueCapacity;
+
+    // 세션별 전송 버퍼 한도(byte) - 넘으면 세션 종료
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    // 한 프레임 전송에 허용하는 최대 시간(ms) - 넘으면 세션 종료
+    @Value("${chat.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    // 수신 메시지 최대 크기(byte)
+    @Value("${chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Override
     public void configureMessageBroker(MessageBrokerRegistry config){ //메시지 브로커를 설정하는 부분
-        //spring이 제공해주는 기본 brocker, 추후에 RabbitMQ나 kafka를 사용할 수 있는
-        config.enableSimpleBroker("/topic"); //발행자가 "/topic"의 경로로 메시지를 주면 구독자들에게 전달
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // RabbitMQ, ActiveMQ 등 외부 STOMP 브로커로 중계 - 어느 서버에서 발행해도 모든 서버의 구독자에게 전달
+            config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayClientLogin)
+                    .setClientPasscode(relayClientPasscode)
+                    .setSystemLogin(relaySystemLogin)
+                    .setSystemPasscode(relaySystemPasscode);
+        } else {
+            //spring이 제공해주는 기본 brocker, 같은 서버에 연결된 구독자에게만 전달
+            config.enableSimpleBroker("/topic"); //발행자가 "/topic"의 경로로 메시지를 주면 구독자들에게 전달
+        }
 
         //"/app" 접두사가 붙은 경로는 @MessageMapping이 붙은곳을 타겟을 한다는 설정
         config.setApplicationDestinationPrefixes("/app"); // 발행자가 "/app"의 경로로 메시지를 주면 가공을 해서 구독자들에게 전달, GreetingController로 감
@@ -36,9 +107,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS(); // 커넥션을 맺는 경로 설정. 만약 WebSocket을 사용할 수 없는 브라우저라면 다른 방식을 사용하도록 설정
     }
 
+    // 스레드 풀 큐 적체량은 actuator 의 executor.* 메트릭(clientInboundChannelExecutor, clientOutboundChannelExecutor)으로 확인
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(securityContextChannelInterceptor(),filterChannelInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(slowConsumerInterceptor);  // 세션별 전송 적체량 추적
     }
 
     // SecurityContextChannelInterceptor Bean 설정
@@ -1,13 +1,16 @@
 package com.nemo.oceanAcademy.domain.category.application.controller;
-import com.nemo.oceanAcademy.domain.category.application.dto.CategoryDto;
-import com.nemo.oceanAcademy.domain.category.application.service.CategoryService;
+import com.nemo.oceanAcademy.domain.category.application.service.CategoryCatalog;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.time.Duration;
 
 /**
  * CategoryController는 카테고리와 관련된 API 요청을 처리합니다.
@@ -18,15 +21,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryController {
 
-    private final CategoryService categoryService;
+    private final CategoryCatalog categoryCatalog;
+
+    // 클라이언트가 다시 확인하지 않고 재사용할 수 있는 시간
+    @Value("${category.catalog.max-age-seconds:300}")
+    private long maxAgeSeconds;
 
     /**
-     * 전체 카테고리 리스트 조회
-     * @return ResponseEntity<List<CategoryDto>> 전체 카테고리 목록
+     * 전체 카테고리 리스트 조회 - 미리 직렬화된 본문을 그대로 응답, If-None-Match 가 같으면 304
+     * @return ResponseEntity<byte[]> 전체 카테고리 목록 (JSON 배열)
      */
     @GetMapping
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
-        List<CategoryDto> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getAllCategories(WebRequest webRequest) {
+        String etag = categoryCatalog.getEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;    // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+                .body(categoryCatalog.getJson());
     }
 }
@@ -0,0 +1,100 @@
+package com.nemo.oceanAcademy.domain.category.application.service;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nemo.oceanAcademy.domain.category.application.dto.CategoryDto;
+import com.nemo.oceanAcademy.domain.category.dataAccess.repository.CategoryRepository;
+import io.sentry.Sentry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 카탈로그.
+ * 카테고리 테이블은 거의 바뀌지 않으므로 시작 시 한 번 읽어 불변 스냅샷(ID -> 이름, 직렬화된 JSON 과 ETag)으로 보관하고,
+ * GET /api/categories 와 강의실 목록의 카테고리 이름 조회에 사용합니다.
+ * 카테고리가 바뀌면 reload() 로 새 스냅샷을 만들어 통째로 교체하며, DB 에서 직접 바뀐 경우를 위해 주기적으로도 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCatalog {
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reload();
+    }
+
+    // 카테고리 변경 반영 - 내용이 같으면 기존 스냅샷(같은 ETag)을 유지
+    @Scheduled(fixedDelayString = "${category.catalog.reload-interval-ms:600000}",
+            initialDelayString = "${category.catalog.reload-interval-ms:600000}")
+    public synchronized void reload() {
+        try {
+            Snapshot loaded = load();
+            if (snapshot == null || !snapshot.etag.equals(loaded.etag)) {
+                snapshot = loaded;
+            }
+        } catch (Exception e) {
+            log.error("카테고리 카탈로그 적재 실패", e);
+            Sentry.captureException(e);
+        }
+    }
+
+    // 카테고리 이름, 없는 ID 이면 null
+    public String getName(Integer categoryId) {
+        return categoryId != null ? current().names.get(categoryId) : null;
+    }
+
+    // GET /api/categories 응답 본문 (JSON 배열) - 모든 요청이 같은 배열을 공유하므로 수정하지 말 것
+    public byte[] getJson() {
+        return current().json;
+    }
+
+    // 응답 본문의 ETag
+    public String getEtag() {
+        return current().etag;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();     // 시작 직후 seed 전에 들어온 요청
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        List<CategoryDto> categories = categoryRepository.findAll().stream()
+                .map(category -> new CategoryDto(category.getId(), category.getName()))
+                .toList();
+        Map<Integer, String> names = categories.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryDto::getId, CategoryDto::getName));
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(categories);
+            return new Snapshot(names, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리 목록 직렬화 실패", e);
+        }
+    }
+
+    // 한 번 만들면 바뀌지 않는 카테고리 스냅샷
+    private record Snapshot(Map<Integer, String> names, byte[] json, String etag) {
+    }
+}
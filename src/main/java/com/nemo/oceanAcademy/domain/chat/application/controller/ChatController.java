@@ -1,49 +1,104 @@
 package com.nemo.oceanAcademy.domain.chat.application.controller;
 
+import com.nemo.oceanAcademy.domain.chat.application.dto.ChatSender;
+import com.nemo.oceanAcademy.domain.chat.application.exception.UnauthorizedException;
+import com.nemo.oceanAcademy.domain.chat.application.service.ChatSenderCache;
 import com.nemo.oceanAcademy.domain.chat.application.service.ChatService;
 import com.nemo.oceanAcademy.domain.chat.dataAccess.entity.Chat;
+import com.nemo.oceanAcademy.domain.participant.application.service.ClassroomMembershipCache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.security.Principal;
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 public class ChatController {
     private final ChatService chatService;
     private final SimpMessagingTemplate template;
+    private final ClassroomMembershipCache classroomMembershipCache;
+    private final ChatSenderCache chatSenderCache;
 
     /**
-     * 특정 채팅방의 모든 채팅 메시지를 조회
-     * @param id  채팅방 ID
-     * @return Mono<ResponseEntity<List<Chat>>>  채팅 메시지 목록을 Mono로 래핑하여 반환
+     * 특정 채팅방의 채팅 메시지를 커서 기반으로 조회
+     * @param id      채팅방 ID
+     * @param before  이 채팅 ID 이전의 메시지만 조회 (선택)
+     * @param after   이 채팅 ID 이후의 메시지만 조회 (선택)
+     * @param limit   최대 메시지 수 (기본값: 50, 최대 200)
+     * @return Mono<ResponseEntity<List<Chat>>>  오래된 순으로 정렬된 채팅 메시지 목록
      */
     @GetMapping("/find/chat/list/{id}")
-    public Mono<ResponseEntity<List<Chat>>> find(@PathVariable("id")Long id){
-        Flux<Chat> response = chatService.findChatMessages(id);
+    public Mono<ResponseEntity<List<Chat>>> find(@PathVariable("id")Long id,
+                                                 @RequestParam(value = "before", required = false) String before,
+                                                 @RequestParam(value = "after", required = false) String after,
+                                                 @RequestParam(value = "limit", defaultValue = "50") int limit){
+        Flux<Chat> response = chatService.findChatMessages(id, before, after, limit);
         return response.collectList().map(ResponseEntity::ok);
     }
 
+    /**
+     * 특정 채팅방의 전체 채팅 기록을 스트리밍으로 내보내기 (강의 기록 보관용)
+     * Accept 헤더에 따라 application/x-ndjson 또는 text/event-stream 으로 한 건씩 전송
+     * 한 번에 최대 limit 건까지 보내며, 마지막으로 받은 채팅 ID 를 after 로 넘겨 이어서 받음
+     * @param id     채팅방 ID
+     * @param after  이 채팅 ID 이후의 메시지만 내보내기 (선택)
+     * @param limit  최대 메시지 수 (기본값/최대: chat.export.max-messages)
+     * @return Flux<Chat>  오래된 순으로 정렬된 채팅 메시지 스트림
+     */
+    @GetMapping(value = "/find/chat/export/{id}",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<Chat> export(@PathVariable("id") Long id,
+                             @RequestParam(value = "after", required = false) String after,
+                             @RequestParam(value = "limit", defaultValue = "" + Integer.MAX_VALUE) int limit) {
+        return chatService.streamChatMessages(id, after, limit);
+    }
+
     /**
      * 클라이언트로부터 채팅 메시지를 수신하고 이를 저장 후 구독자들에게 전송
-     * @param chat  수신한 채팅 메시지 객체
+     * 작성자와 프로필 이미지는 클라이언트 값 대신 발신자 캐시(CONNECT 시 적재 시작)의 정보로 채움
+     * 강의실의 강사 또는 수강생이 아니면 전송하지 않음
+     * @param chat            수신한 채팅 메시지 객체
+     * @param headerAccessor  STOMP 세션 정보
      * @return Mono<Void>  처리 완료를 나타내는 Mono
      */
     @MessageMapping("/hello") // /app/hello 로 들어감
     @SendTo("/topic/messages")
-    public Mono<Void> receiveMessage(Chat chat) {
-        System.out.println(chat);
-        return chatService.saveChatMessage(chat).flatMap(savedMessage -> {
-            template.convertAndSend("/topic/greetings/" + chat.getRoomId(), savedMessage);
-            return Mono.empty();
+    public Mono<Void> receiveMessage(Chat chat, SimpMessageHeaderAccessor headerAccessor) {
+        Principal user = headerAccessor.getUser();
+        if (user == null) {
+            return Mono.error(UnauthorizedException.of("UNAUTHORIZED", "인증되지 않은 세션입니다."));
+        }
+        // 발신자, 멤버십 확인은 캐시 미스일 때만 boundedElastic 에서 DB 조회 (인바운드 채널 스레드를 막지 않음)
+        return Mono.zip(
+                chatSenderCache.getAsync(user.getName())
+                        .switchIfEmpty(Mono.error(() -> UnauthorizedException.of("UNAUTHORIZED", "사용자를 찾을 수 없습니다."))),
+                classroomMembershipCache.isMemberAsync(chat.getRoomId(), user.getName())
+        ).flatMap(tuple -> {
+            ChatSender sender = tuple.getT1();
+            if (!tuple.getT2()) {
+                return Mono.error(UnauthorizedException.of("FORBIDDEN", "채팅방에 참여할 권한이 없습니다."));
+            }
+            chat.setWriter(sender.getNickname());
+            chat.setProfileImagePath(sender.getProfileImagePath());
+            log.trace("chat.received roomId={} writer={}", chat.getRoomId(), chat.getWriter());
+            return chatService.saveChatMessage(chat).flatMap(savedMessage -> {
+                template.convertAndSend("/topic/greetings/" + chat.getRoomId(), savedMessage);
+                return Mono.<Void>empty();
+            });
         });
     }
 }
@@ -0,0 +1,21 @@
+package com.nemo.oceanAcademy.domain.chat.application.dto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅 발신자 정보.
+ * 메시지 작성자와 프로필 이미지는 클라이언트 값 대신 이 정보로 채웁니다 (ChatSenderCache 에서 조회).
+ */
+@Getter
+@AllArgsConstructor
+public class ChatSender {
+
+    // 사용자 ID
+    private final String userId;
+
+    // 닉네임 (채팅 작성자 표시)
+    private final String nickname;
+
+    // 프로필 이미지 경로
+    private final String profileImagePath;
+}
@@ -1,33 +1,70 @@
 package com.nemo.oceanAcademy.domain.chat.application.interceptor;
 
 import com.nemo.oceanAcademy.domain.auth.security.JwtTokenProvider;
+import com.nemo.oceanAcademy.domain.chat.application.exception.UnauthorizedException;
+import com.nemo.oceanAcademy.domain.chat.application.service.ChatSenderCache;
+import com.nemo.oceanAcademy.domain.participant.application.service.ClassroomMembershipCache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * STOMP 인바운드 프레임 인증, 인가.
+ * preSend 는 WebSocket 수신 스레드에서 실행되므로 DB 를 조회하지 않습니다.
+ * CONNECT 는 JWT 만 검증하고 발신자 정보 적재는 비동기로 시작하며,
+ * SUBSCRIBE 는 멤버십 캐시 미스일 때 프레임을 보류하고 boundedElastic 에서 확인한 뒤 다시 보내거나 ERROR 프레임으로 거부합니다.
+ */
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class FilterChannelInterceptor implements ChannelInterceptor {
 
     private final JwtTokenProvider jwtUtils;
+    private final ChatSenderCache chatSenderCache;
+    private final ClassroomMembershipCache classroomMembershipCache;
+
+    // 구독 거부 시 ERROR 프레임 전송 (채널 설정과의 순환 참조를 피하기 위해 지연 주입)
+    @Autowired
+    @Lazy
+    @Qualifier("clientOutboundChannel")
+    private MessageChannel clientOutboundChannel;
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/greetings/";
+
+    // DEBUG 레벨일 때 프레임 로그를 남길 비율 (0.0 ~ 1.0)
+    @Value("${chat.logging.frame-sample-rate:0.01}")
+    private double frameSampleRate;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        System.out.println("message:" + message);
-        System.out.println("헤더 : " + message.getHeaders());
-        System.out.println("토큰" + accessor.getNativeHeader("Authorization"));
+        logFrame(accessor);
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String authorization = jwtUtils.extractJwt(accessor);
             if (authorization != null && authorization.startsWith("Bearer ")) { // 인증 시도
                 authorization = authorization.substring(7);
 
                 if(jwtUtils.validateToken(authorization)){
-                    System.out.println("authorization = " + authorization);
+                    authenticate(message, authorization);
                     return message;
                 }
                 else throw new MessagingException("Invalid token "); // 예외를 던져 연결을 중단
@@ -36,6 +73,84 @@ public class FilterChannelInterceptor implements ChannelInterceptor {
                 throw new MessagingException("Missing or invalid Authorization header"); // 토큰이 없거나 잘못된 형식일 경우 예외 발생
             }
         }
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return authorizeSubscribe(message, accessor, channel);
+        }
         return message;
     }
+
+    // 세션에 Principal 을 바인딩하고 발신자 정보 적재를 시작 - 사용자 조회는 수신 스레드 밖에서 실행
+    private void authenticate(Message<?> message, String token) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            throw new MessagingException("STOMP 헤더를 읽을 수 없습니다.");
+        }
+
+        Authentication authentication = jwtUtils.getAuthentication(token);
+        accessor.setUser(authentication);
+        chatSenderCache.preload(authentication.getName());
+    }
+
+    /**
+     * 채팅방 구독은 해당 강의실의 강사 또는 수강생만 가능
+     * 멤버십 캐시에 있으면 바로 허용/거부하고, 없으면 프레임을 보류(null 반환)한 뒤
+     * boundedElastic 에서 확인해 회원이면 같은 채널로 다시 보내고 (이때는 캐시에 있음), 아니면 ERROR 프레임으로 세션을 종료
+     */
+    private Message<?> authorizeSubscribe(Message<?> message, StompHeaderAccessor accessor, MessageChannel channel) {
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return message;
+        }
+
+        Long roomId;
+        try {
+            roomId = Long.valueOf(destination.substring(ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw UnauthorizedException.of("FORBIDDEN", "잘못된 채팅방 경로입니다.");
+        }
+
+        Principal user = accessor.getUser();
+        if (user == null) {
+            throw UnauthorizedException.of("FORBIDDEN", "채팅방에 참여할 권한이 없습니다.");
+        }
+
+        Boolean cached = classroomMembershipCache.getIfPresent(roomId, user.getName());
+        if (cached != null) {
+            if (!cached) {
+                throw UnauthorizedException.of("FORBIDDEN", "채팅방에 참여할 권한이 없습니다.");
+            }
+            return message;
+        }
+
+        String sessionId = accessor.getSessionId();
+        classroomMembershipCache.isMemberAsync(roomId, user.getName()).subscribe(member -> {
+            if (member) {
+                channel.send(message);
+            } else {
+                reject(sessionId, "채팅방에 참여할 권한이 없습니다.");
+            }
+        }, e -> {
+            log.warn("stomp.subscribe membership check failed roomId={} sessionId={}", roomId, sessionId, e);
+            reject(sessionId, "채팅방 권한을 확인하지 못했습니다.");
+        });
+        return null;
+    }
+
+    // 보류했던 구독을 거부 - ERROR 프레임을 보내면 세션이 종료됨 (StompExceptionHandler 와 같은 형식)
+    private void reject(String sessionId, String reason) {
+        StompHeaderAccessor error = StompHeaderAccessor.create(StompCommand.ERROR);
+        error.setMessage(HttpStatus.UNAUTHORIZED.name());
+        error.setSessionId(sessionId);
+        clientOutboundChannel.send(MessageBuilder.createMessage(
+                reason.getBytes(StandardCharsets.UTF_8), error.getMessageHeaders()));
+    }
+
+    // 프레임 로그는 헤더 본문이나 토큰 없이 식별 정보만 남김
+    private void logFrame(StompHeaderAccessor accessor) {
+        if (!log.isDebugEnabled() || ThreadLocalRandom.current().nextDouble() >= frameSampleRate) {
+            return;
+        }
+        log.debug("stomp.frame command={} destination={} sessionId={}",
+                accessor.getCommand(), accessor.getDestination(), accessor.getSessionId());
+    }
 }
@@ -0,0 +1,207 @@
+package com.nemo.oceanAcademy.domain.chat.application.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 클라이언트(slow consumer) 처리.
+ * clientOutboundChannel 로 보낸 프레임 수와 실제 소켓 전송이 끝난 프레임 수의 차이로 세션별 적체량을 계산하고,
+ * 적체량이 max-pending-messages 를 넘으면 정책에 따라 채팅방 메시지(MESSAGE, /topic/greetings/{roomId})를 버리거나(drop) 연결을 끊습니다(disconnect).
+ * CONNECTED, RECEIPT, ERROR 등 다른 프레임은 적체량에만 반영하고 버리지 않습니다.
+ * 채널에 들어가지 못했거나 처리 중 실패한 프레임은 소켓 전송이 없으므로 그 자리에서 적체량을 줄입니다.
+ * 채팅방별 전송 대기 메시지 수는 chat.websocket.room.pending 게이지(room 태그)로 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowConsumerInterceptor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/greetings/";
+
+    private final MeterRegistry meterRegistry;
+
+    // 적체 한도를 넘었을 때의 정책 - drop: 새 프레임을 버림, disconnect: 세션 종료
+    @Value("${chat.websocket.slow-consumer.policy:drop}")
+    private String policy;
+
+    // 세션별로 전송 대기할 수 있는 최대 프레임 수
+    @Value("${chat.websocket.slow-consumer.max-pending-messages:500}")
+    private int maxPendingMessages;
+
+    private final Map<String, SessionBacklog> backlogs = new ConcurrentHashMap<>();
+    private final Map<String, Counter> droppedCounters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> roomDepths = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SessionBacklog backlog = backlog(message);
+        if (backlog == null) {
+            return message;
+        }
+        if (backlog.closing.get()) {
+            return null;    // 종료 중인 세션 - 이후 프레임은 조용히 버림
+        }
+
+        String room = resolveRoom(message);
+        if (room != null && backlog.pending.get() >= maxPendingMessages) {
+            if ("disconnect".equalsIgnoreCase(policy)) {
+                disconnect(backlog, room);
+            } else {
+                droppedCounter(room).increment();
+            }
+            return null;    // 채팅방 메시지만 버림
+        }
+
+        backlog.pending.incrementAndGet();
+        if (room != null) {
+            roomDepth(room).incrementAndGet();
+        }
+        return message;
+    }
+
+    // 채널에 들어가지 못한 프레임 (큐 초과 등) - 소켓 전송이 없으므로 여기서 줄임
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (sent && ex == null) {
+            return;
+        }
+        release(backlog(message));
+        releaseRoom(message);
+    }
+
+    // 전송 스레드에서 처리가 끝난 프레임 - 채팅방 대기 수를 줄이고, 실패했으면 소켓 전송이 없으므로 적체량도 줄임
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        releaseRoom(message);
+        if (ex != null) {
+            release(backlog(message));
+        }
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionBacklog backlog = new SessionBacklog(session);
+                backlogs.put(session.getId(), backlog);
+                super.afterConnectionEstablished(new BacklogTrackingSession(session, backlog));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                backlogs.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private void disconnect(SessionBacklog backlog, String room) {
+        // 세션당 한 번만 종료 - 종료가 끝나기 전에 들어온 프레임은 close/카운터를 반복하지 않음
+        if (!backlog.closing.compareAndSet(false, true)) {
+            return;
+        }
+        meterRegistry.counter("chat.websocket.slow.consumer.disconnects", "room", room).increment();
+        try {
+            backlog.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("느린 클라이언트 세션 종료 실패: {}", backlog.session.getId(), e);
+        }
+    }
+
+    private Counter droppedCounter(String room) {
+        return droppedCounters.computeIfAbsent(room,
+                key -> meterRegistry.counter("chat.websocket.dropped.frames", "room", key));
+    }
+
+    private AtomicInteger roomDepth(String room) {
+        return roomDepths.computeIfAbsent(room,
+                key -> meterRegistry.gauge("chat.websocket.room.pending", Tags.of("room", key), new AtomicInteger()));
+    }
+
+    private SessionBacklog backlog(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? backlogs.get(sessionId) : null;
+    }
+
+    private static void release(SessionBacklog backlog) {
+        if (backlog != null) {
+            backlog.pending.updateAndGet(pending -> Math.max(0, pending - 1));
+        }
+    }
+
+    private void releaseRoom(Message<?> message) {
+        String room = resolveRoom(message);
+        AtomicInteger depth = room != null ? roomDepths.get(room) : null;
+        if (depth != null) {
+            depth.updateAndGet(pending -> Math.max(0, pending - 1));
+        }
+    }
+
+    // 채팅방 메시지(MESSAGE, /topic/greetings/{roomId})면 방 번호, 아니면 null
+    private static String resolveRoom(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination != null && destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return destination.substring(ROOM_TOPIC_PREFIX.length());
+        }
+        return null;
+    }
+
+    // 세션별 전송 대기 프레임 수와 종료 여부
+    private static final class SessionBacklog {
+        private final WebSocketSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        private SessionBacklog(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+
+    // 소켓 전송이 끝날 때마다 대기 프레임 수를 줄이는 세션 래퍼
+    private static final class BacklogTrackingSession extends WebSocketSessionDecorator {
+        private final SessionBacklog backlog;
+
+        private BacklogTrackingSession(WebSocketSession session, SessionBacklog backlog) {
+            super(session);
+            this.backlog = backlog;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                // 에러 프레임처럼 채널을 거치지 않은 전송도 있으므로 0 아래로 내려가지 않게 함
+                backlog.pending.updateAndGet(pending -> Math.max(0, pending - 1));
+            }
+        }
+    }
+}
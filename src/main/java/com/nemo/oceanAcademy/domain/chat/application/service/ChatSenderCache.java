@@ -0,0 +1,78 @@
+package com.nemo.oceanAcademy.domain.chat.application.service;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.nemo.oceanAcademy.domain.chat.application.dto.ChatSender;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * 채팅 발신자(닉네임, 프로필 이미지) 캐시.
+ * STOMP 인바운드 채널 스레드에서 DB 를 조회하지 않도록, 캐시 미스일 때의 JPA 조회는 boundedElastic 스케줄러에서 실행합니다.
+ * CONNECT 시 미리 적재를 시작하므로 첫 메시지 전송은 대부분 캐시에서 바로 처리됩니다.
+ * 없는 사용자는 캐시하지 않으며, 프로필 수정 시 해당 항목을 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSenderCache {
+
+    private final UserRepository userRepository;
+
+    // 캐시에 보관할 최대 사용자 수
+    @Value("${chat.sender-cache.maximum-size:100000}")
+    private long maximumSize;
+
+    // 캐시 항목 유지 시간 - 다른 서버에서 수정한 프로필은 이 시간 안에 반영됨
+    @Value("${chat.sender-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private LoadingCache<String, ChatSender> senders;
+
+    @PostConstruct
+    public void init() {
+        senders = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(this::load);
+    }
+
+    /**
+     * 발신자 정보 조회 (논블로킹)
+     * 캐시에 있으면 바로 반환하고, 없으면 boundedElastic 스케줄러에서 조회
+     * @param userId 사용자 ID
+     * @return Mono<ChatSender> 발신자 정보 (없는 사용자면 empty)
+     */
+    public Mono<ChatSender> getAsync(String userId) {
+        if (userId == null) {
+            return Mono.empty();
+        }
+        ChatSender cached = senders.getIfPresent(userId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return Mono.fromCallable(() -> senders.get(userId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 호출 스레드를 막지 않고 미리 적재 (CONNECT 시) - 실패하면 첫 메시지 전송 시 다시 조회
+    public void preload(String userId) {
+        getAsync(userId).subscribe(sender -> { }, e -> { });
+    }
+
+    // 프로필이 바뀌었을 때 캐시 항목 제거
+    public void invalidate(String userId) {
+        senders.invalidate(userId);
+    }
+
+    private ChatSender load(String userId) {
+        return userRepository.findById(userId)
+                .map(user -> new ChatSender(user.getId(), user.getNickname(), user.getProfileImagePath()))
+                .orElse(null);
+    }
+}
@@ -1,36 +1,133 @@
 package com.nemo.oceanAcademy.domain.chat.application.service;
 import com.nemo.oceanAcademy.domain.chat.dataAccess.entity.Chat;
-import com.nemo.oceanAcademy.domain.chat.dataAccess.repository.ChatRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
-    private final ChatRepository chatRepository;
+    private static final int MAX_HISTORY_LIMIT = 200;              // 한 번에 조회할 수 있는 최대 메시지 수
+    private static final Duration HISTORY_MAX_TIME = Duration.ofSeconds(1);    // 기록 조회 쿼리의 서버 측 최대 실행 시간
+    private static final int EXPORT_BATCH_SIZE = 500;              // 내보내기 시 커서에서 한 번에 읽는 메시지 수
+
+    private final ReactiveMongoOperations mongoOperations;
     private final SequenceGeneratorService sequenceGeneratorService; // 시퀀스 생성 서비스 추가
+    private final ChatWriteBuffer chatWriteBuffer;                   // 메시지를 모아서 저장하는 버퍼
+
+    // 내보내기 한 번에 보낼 수 있는 최대 메시지 수
+    @Value("${chat.export.max-messages:50000}")
+    private int maxExportMessages;
+
+    /**
+     * 커서 기반 채팅 기록 조회 - before/after 는 채팅 ID, 결과는 항상 오래된 순으로 반환.
+     * 채팅 ID 의 시퀀스는 노드별 구간으로 발급되어 방 안에서도 시간순이 아니므로, 커서 메시지의 (createdDate, _id) 로 범위를 정함
+     */
+    public Flux<Chat> findChatMessages(Long roomId, String before, String after, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT));
+
+        return Mono.zip(findCursor(roomId, before), findCursor(roomId, after))
+                .flatMapMany(cursors -> {
+                    if ((before != null && cursors.getT1().isEmpty()) || (after != null && cursors.getT2().isEmpty())) {
+                        return Flux.empty();    // 없는 커서
+                    }
+
+                    List<Criteria> bounds = new ArrayList<>();
+                    bounds.add(where("roomId").is(roomId));
+                    cursors.getT1().ifPresent(cursor -> bounds.add(beforeCursor(cursor)));
+                    cursors.getT2().ifPresent(cursor -> bounds.add(afterCursor(cursor)));
+
+                    // after 가 있으면 커서 바로 다음부터 오래된 순, 아니면 최신순으로 limit 개를 읽은 뒤 뒤집음
+                    Sort.Direction direction = after != null ? Sort.Direction.ASC : Sort.Direction.DESC;
+                    Query query = Query.query(new Criteria().andOperator(bounds.toArray(new Criteria[0])))
+                            .with(Sort.by(direction, "createdDate", "_id"))
+                            .limit(size)
+                            .maxTime(HISTORY_MAX_TIME);
+                    Flux<Chat> page = mongoOperations.find(query, Chat.class);
+                    if (direction == Sort.Direction.ASC) {
+                        return page;
+                    }
+                    return page.collectList()
+                            .flatMapMany(chats -> {
+                                Collections.reverse(chats);
+                                return Flux.fromIterable(chats);
+                            });
+                });
+    }
+
+    // 커서 메시지보다 먼저 작성된 메시지 - (createdDate, _id) < 커서
+    private Criteria beforeCursor(Chat cursor) {
+        return new Criteria().orOperator(
+                where("createdDate").lt(cursor.getCreatedDate()),
+                where("createdDate").is(cursor.getCreatedDate()).and("_id").lt(cursor.getId()));
+    }
+
+    // 커서 메시지보다 나중에 작성된 메시지 - (createdDate, _id) > 커서
+    private Criteria afterCursor(Chat cursor) {
+        return new Criteria().orOperator(
+                where("createdDate").gt(cursor.getCreatedDate()),
+                where("createdDate").is(cursor.getCreatedDate()).and("_id").gt(cursor.getId()));
+    }
+
+    // 커서로 받은 채팅 ID 의 메시지 (같은 방에서만)
+    private Mono<Optional<Chat>> findCursor(Long roomId, String chatId) {
+        if (chatId == null) {
+            return Mono.just(Optional.empty());
+        }
+        return mongoOperations.findOne(Query.query(where("_id").is(chatId).and("roomId").is(roomId)), Chat.class)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
 
-    @Transactional
-    public Flux<Chat> findChatMessages(Long id) {
-        return chatRepository.findAllByRoomId(id);
+    /**
+     * 방의 채팅 기록을 메모리에 모으지 않고 커서에서 바로 흘려보냄 (오래된 순)
+     * 한 번에 최대 limit 건까지 보내며, 마지막으로 받은 채팅 ID 를 after 로 넘기면 이어서 받을 수 있음
+     */
+    public Flux<Chat> streamChatMessages(Long roomId, String after, int limit) {
+        int size = Math.max(1, Math.min(limit, maxExportMessages));
+        return findCursor(roomId, after).flatMapMany(cursor -> {
+            if (after != null && cursor.isEmpty()) {
+                return Flux.empty();    // 없는 커서
+            }
+            Criteria criteria = where("roomId").is(roomId);
+            if (cursor.isPresent()) {
+                criteria = new Criteria().andOperator(criteria, afterCursor(cursor.get()));
+            }
+            Query query = Query.query(criteria)
+                    .with(Sort.by(Sort.Direction.ASC, "createdDate", "_id"))
+                    .limit(size)
+                    .cursorBatchSize(EXPORT_BATCH_SIZE);
+            return mongoOperations.find(query, Chat.class);
+        });
     }
 
-    @Transactional
-    // 메시지를 저장하는 메서드
+    // 메시지를 저장하는 메서드 - 시퀀스 발급부터 저장까지 블로킹 호출 없이 처리
     public Mono<Chat> saveChatMessage(Chat chat) {
         // 채팅 메시지가 빈 값이거나 공백만 있는 경우 메시지를 무시
         if (chat.getContent() == null || chat.getContent().trim().isEmpty()) {
             return Mono.empty(); // 빈 메시지일 경우 아무 작업도 하지 않음
         }
 
-        String chatId = sequenceGeneratorService.generateChatId(chat.getRoomId());  // 자동 증가 ID를 생성하여 설정
-        chat.setId(chatId);                         // 생성된 ID를 Chat 엔티티에 설정
-        chat.setCreatedDate(new Date());            // 메시지 생성 날짜 설정
-        return chatRepository.save(chat);
+        return sequenceGeneratorService.generateChatId(chat.getRoomId())   // 자동 증가 ID를 생성하여 설정
+                .flatMap(chatId -> {
+                    chat.setId(chatId);                     // 생성된 ID를 Chat 엔티티에 설정
+                    chat.setCreatedDate(new Date());        // 메시지 생성 날짜 설정
+                    return chatWriteBuffer.enqueue(chat);   // 방별 버퍼에 모았다가 insertMany 로 저장
+                });
     }
 }
@@ -0,0 +1,208 @@
+package com.nemo.oceanAcademy.domain.chat.application.service;
+import com.nemo.oceanAcademy.domain.chat.dataAccess.entity.Chat;
+import io.sentry.Sentry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채팅 메시지 write-behind 버퍼.
+ * 메시지를 방별 버퍼에 모아 두었다가 batch-size 개가 쌓이거나 flush-interval 이 지나면 insertMany 로 한 번에 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatWriteBuffer {
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    // 한 번에 저장할 최대 메시지 수
+    @Value("${chat.write-behind.batch-size:200}")
+    private int batchSize;
+
+    // 주기적으로 버퍼를 비우는 간격
+    @Value("${chat.write-behind.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    // 방별로 저장을 기다릴 수 있는 최대 메시지 수
+    @Value("${chat.write-behind.room-capacity:5000}")
+    private int roomCapacity;
+
+    // true 이면 DB 저장이 끝난 뒤에 응답(브로드캐스트)이 나감
+    @Value("${chat.write-behind.durable-ack:false}")
+    private boolean durableAck;
+
+    // 종료 시 남은 메시지를 저장하기 위해 기다리는 최대 시간
+    @Value("${chat.write-behind.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private final ConcurrentHashMap<Long, RoomBuffer> buffers = new ConcurrentHashMap<>();
+    private volatile boolean accepting = true;
+    private Disposable flushTask;
+
+    // accepting 확인과 버퍼 추가를 종료 처리와 겹치지 않게 함 - 추가는 read, 종료는 write
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    // 진행 중인 크기 초과 flush - 종료 시 끝날 때까지 기다림
+    private final Set<Mono<Void>> inFlightFlushes = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void start() {
+        flushTask = Flux.interval(Duration.ofMillis(flushIntervalMs))
+                .onBackpressureDrop()                       // 이전 flush 가 끝나지 않았으면 이번 주기는 건너뜀
+                .concatMap(tick -> flushAll(), 1)
+                .subscribe();
+    }
+
+    // 애플리케이션 종료 시 새 메시지를 받지 않고, 진행 중인 flush 를 기다린 뒤 모든 방의 버퍼가 빌 때까지 저장
+    @PreDestroy
+    public void shutdown() {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;      // 이후로는 버퍼에 추가되는 메시지가 없음
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        if (flushTask != null) {
+            flushTask.dispose();
+        }
+        Flux.fromIterable(List.copyOf(inFlightFlushes))
+                .flatMap(flush -> flush)
+                .thenMany(Flux.fromIterable(buffers.values()))
+                .flatMap(RoomBuffer::flushUntilEmpty)
+                .then()
+                .block(Duration.ofMillis(shutdownTimeoutMs));
+    }
+
+    /**
+     * 메시지를 방 버퍼에 추가합니다.
+     * 버퍼가 가득 차면 해당 방을 먼저 비운 뒤 다시 시도하므로, 저장이 밀리는 동안 발행자 쪽 처리가 늦춰집니다.
+     * @param chat ID가 발급된 채팅 메시지
+     * @return Mono<Chat> durable-ack 이면 저장 완료 후, 아니면 즉시 완료
+     */
+    public Mono<Chat> enqueue(Chat chat) {
+        RoomBuffer buffer;
+        PendingChat pending = new PendingChat(chat);
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) {
+                return Mono.error(new IllegalStateException("채팅 저장 버퍼가 종료되었습니다."));
+            }
+            buffer = buffers.computeIfAbsent(chat.getRoomId(), roomId -> new RoomBuffer());
+            if (!buffer.offer(pending)) {
+                return buffer.flush().then(Mono.defer(() -> enqueue(chat)));
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+
+        if (buffer.size() >= batchSize) {
+            flushInBackground(buffer);
+        }
+        return durableAck ? pending.ack.asMono() : Mono.just(chat);
+    }
+
+    // 크기 초과 flush 를 바로 시작하고, 종료 시 기다릴 수 있도록 끝날 때까지 보관
+    private void flushInBackground(RoomBuffer buffer) {
+        Mono<Void> flush = buffer.flush().cache();
+        inFlightFlushes.add(flush);
+        flush.doFinally(signal -> inFlightFlushes.remove(flush)).subscribe();
+    }
+
+    private Mono<Void> flushAll() {
+        return Flux.fromIterable(buffers.values())
+                .flatMap(RoomBuffer::flush)
+                .then();
+    }
+
+    // 방 하나의 저장 대기열
+    private final class RoomBuffer {
+        private final Queue<PendingChat> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private boolean offer(PendingChat pending) {
+            if (size.incrementAndGet() > roomCapacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            queue.offer(pending);
+            return true;
+        }
+
+        private int size() {
+            return size.get();
+        }
+
+        private List<PendingChat> drain() {
+            List<PendingChat> batch = new ArrayList<>(Math.min(size.get(), batchSize));
+            PendingChat pending;
+            while (batch.size() < batchSize && (pending = queue.poll()) != null) {
+                batch.add(pending);
+            }
+            size.addAndGet(-batch.size());
+            return batch;
+        }
+
+        // 종료 시 - 대기열이 빌 때까지 batch-size 단위로 반복 저장
+        private Mono<Void> flushUntilEmpty() {
+            return flush().then(Mono.defer(() -> size.get() > 0 ? flushUntilEmpty() : Mono.empty()));
+        }
+
+        // 대기 중인 메시지를 batch-size 단위로 insertMany, 실패한 배치는 ack 에 오류로 전달
+        private Mono<Void> flush() {
+            List<PendingChat> batch = drain();
+            if (batch.isEmpty()) {
+                return Mono.empty();
+            }
+
+            List<Chat> chats = batch.stream().map(pending -> pending.chat).toList();
+            return mongoOperations.insert(chats, Chat.class)
+                    .then()
+                    .doOnSuccess(done -> batch.forEach(PendingChat::acknowledge))
+                    .onErrorResume(e -> {
+                        log.error("채팅 메시지 {}건 저장 실패", batch.size(), e);
+                        Sentry.captureException(e);
+                        batch.forEach(pending -> pending.fail(e));
+                        return Mono.empty();
+                    })
+                    .then(Mono.defer(() -> size.get() >= batchSize ? flush() : Mono.empty()));
+        }
+    }
+
+    // 저장 대기 중인 메시지와 저장 완료 알림
+    private static final class PendingChat {
+        private final Chat chat;
+        private final Sinks.One<Chat> ack = Sinks.one();
+
+        private PendingChat(Chat chat) {
+            this.chat = chat;
+        }
+
+        private void acknowledge() {
+            ack.tryEmitValue(chat);
+        }
+
+        private void fail(Throwable e) {
+            ack.tryEmitError(e);
+        }
+    }
+}
@@ -1,36 +1,141 @@
 package com.nemo.oceanAcademy.domain.chat.application.service;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
+/**
+ * 채팅 ID(날짜_방번호_시퀀스) 발급.
+ * 시퀀스는 노드마다 Mongo 에서 예약한 구간으로 발급되므로 모든 노드에서 겹치지 않지만,
+ * 여러 노드가 같은 방에 쓰면 ID 순서가 작성 순서와 다를 수 있습니다.
+ * 채팅을 시간순으로 읽을 때는 ID 가 아니라 (createdDate, _id) 로 정렬해야 합니다 (ChatService 참고).
+ */
 @Service
 public class SequenceGeneratorService {
 
     @Autowired
-    private MongoOperations mongoOperations;
-
-    public long generateSequence(String seqName) {
-        Sequence counter = mongoOperations.findAndModify(
-                Query.query(where("_id").is(seqName)),
-                new Update().inc("seq", 1),
-                options().returnNew(true).upsert(true),
-                Sequence.class);
-        return counter != null ? counter.getSeq() : 1;
+    private ReactiveMongoOperations mongoOperations;
+
+    // 한 번의 $inc 로 예약할 시퀀스 개수
+    @Value("${chat.sequence.block-size:1000}")
+    private int blockSize;
+
+    // 시퀀스 이름(날짜_방번호)별로 이 노드가 예약해 둔 시퀀스 구간
+    private final ConcurrentHashMap<String, RoomSequence> sequences = new ConcurrentHashMap<>();
+    private volatile String currentDate;
+
+    public Mono<Long> generateSequence(String seqName) {
+        return reserveSequence(seqName, 1);
     }
 
-    public String generateChatId(Long roomId) {         // 날짜+방번호+id 시퀀스 생성
+    // $inc 한 번으로 count개의 시퀀스를 예약하고, 예약된 구간의 마지막 값을 반환
+    private Mono<Long> reserveSequence(String seqName, int count) {
+        return mongoOperations.findAndModify(
+                        Query.query(where("_id").is(seqName)),
+                        new Update().inc("seq", count),
+                        options().returnNew(true).upsert(true),
+                        Sequence.class)
+                .map(Sequence::getSeq)
+                .defaultIfEmpty((long) count);
+    }
+
+    // 예약된 구간에서 다음 시퀀스를 꺼내고, 구간을 다 쓰면 새 구간을 예약
+    public Mono<Long> nextSequence(String seqName) {
+        return sequences.computeIfAbsent(seqName, RoomSequence::new).next();
+    }
+
+    public Mono<String> generateChatId(Long roomId) {   // 날짜+방번호+id 시퀀스 생성
 
         String date = new SimpleDateFormat("yyyyMMdd").format(new Date());  // 현재 날짜를 yyyyMMdd 형식으로 변환
+        evictPreviousDates(date);
         String sequenceName = date + "_" + roomId;                          // 날짜와 방 번호를 조합한 시퀀스 이름 생성
-        long sequenceCount = generateSequence(sequenceName);                // 해당 날짜와 방 번호에 맞는 시퀀스 값을 증가시킴
-        String formattedSeq = String.format("%016d", sequenceCount);        // 시퀀스를 16자리로 포맷 (예: 001, 002, ...)
-        return date + "_" + roomId + "_" + formattedSeq;                    // 최종 ID 생성 (날짜_방번호_시퀀스)
+        return nextSequence(sequenceName)                                   // 해당 날짜와 방 번호에 맞는 시퀀스 값을 증가시킴
+                .map(sequenceCount -> {
+                    String formattedSeq = String.format("%016d", sequenceCount);    // 시퀀스를 16자리로 포맷 (예: 001, 002, ...)
+                    return date + "_" + roomId + "_" + formattedSeq;                // 최종 ID 생성 (날짜_방번호_시퀀스)
+                });
+    }
+
+    // 날짜가 바뀌면 이전 날짜의 구간은 다시 쓰이지 않으므로 정리
+    private void evictPreviousDates(String date) {
+        if (!date.equals(currentDate)) {
+            currentDate = date;
+            sequences.keySet().removeIf(key -> !key.startsWith(date));
+        }
+    }
+
+    /**
+     * 방(날짜_방번호) 하나의 시퀀스 상태.
+     * 발급은 현재 구간의 AtomicLong 으로 락 없이 처리하고, 구간을 모두 소진했을 때만 새 구간을 예약한다.
+     * 예약은 논블로킹으로 한 번만 진행되며, 그동안 도착한 요청은 같은 예약 결과를 기다린다.
+     * 구간은 Mongo 의 $inc 로 예약되므로 노드 간에는 겹치지 않고, 한 노드 안에서는 항상 증가한다.
+     */
+    private final class RoomSequence {
+        private final String seqName;
+        private volatile SequenceBlock block;
+        private Mono<SequenceBlock> pendingRefill;
+
+        private RoomSequence(String seqName) {
+            this.seqName = seqName;
+        }
+
+        private Mono<Long> next() {
+            SequenceBlock current = block;
+            long seq = current != null ? current.take() : -1;
+            if (seq > 0) {
+                return Mono.just(seq);
+            }
+            return refill(current).then(Mono.defer(this::next));
+        }
+
+        private synchronized Mono<SequenceBlock> refill(SequenceBlock exhausted) {
+            if (block != exhausted) {
+                return Mono.just(block);    // 다른 요청이 이미 새 구간을 예약함
+            }
+            if (pendingRefill == null) {
+                pendingRefill = reserveSequence(seqName, blockSize)
+                        .map(last -> new SequenceBlock(last - blockSize + 1, last))
+                        .doOnNext(this::install)
+                        .doOnError(e -> clearPending())
+                        .cache();
+            }
+            return pendingRefill;
+        }
+
+        private synchronized void install(SequenceBlock reserved) {
+            block = reserved;
+            pendingRefill = null;
+        }
+
+        private synchronized void clearPending() {
+            pendingRefill = null;
+        }
+    }
+
+    // [next, last] 범위의 예약된 시퀀스 구간
+    private static final class SequenceBlock {
+        private final AtomicLong next;
+        private final long last;
+
+        private SequenceBlock(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+
+        private long take() {
+            long seq = next.getAndIncrement();
+            return seq <= last ? seq : -1;
+        }
     }
 }
@@ -5,13 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import nonapi.io.github.classgraph.json.Id;
-import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
 
 @Document(collection =  "chatting_content")
+@CompoundIndex(name = "roomId_createdDate_id", def = "{'roomId': 1, 'createdDate': 1, '_id': 1}")   // 방별 (작성 시각, ID) 커서 페이지네이션용 인덱스
 @Data
 @Builder
 @NoArgsConstructor
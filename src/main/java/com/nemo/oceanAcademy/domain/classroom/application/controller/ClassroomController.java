@@ -4,16 +4,26 @@ import com.nemo.oceanAcademy.common.exception.UnauthorizedException;
 import com.nemo.oceanAcademy.common.response.ApiResponse;
 import com.nemo.oceanAcademy.domain.classroom.application.dto.*;
 import com.nemo.oceanAcademy.domain.classroom.application.service.ClassroomService;
+import com.nemo.oceanAcademy.domain.participant.application.dto.EnrollmentImportDto;
 import com.nemo.oceanAcademy.domain.participant.application.dto.ParticipantResponseDto;
+import com.nemo.oceanAcademy.domain.participant.application.service.EnrollmentImportService;
 import io.sentry.Sentry;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ClassroomController는 강의 관련 메인 API를 처리합니다.
@@ -24,7 +34,19 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ClassroomController {
 
+    private static final int PAGE_SIZE = 12;
+    private static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+
     private final ClassroomService classroomService;
+    private final EnrollmentImportService enrollmentImportService;
+
+    // 강의실 상세 응답을 브라우저가 다시 확인하지 않고 재사용할 수 있는 시간
+    @Value("${classroom.detail.max-age-seconds:10}")
+    private long detailMaxAgeSeconds;
+
+    // 강의실 상세 응답을 CDN, 리버스 프록시가 재사용할 수 있는 시간
+    @Value("${classroom.detail.s-max-age-seconds:30}")
+    private long detailSharedMaxAgeSeconds;
 
     /**
      * 공통 사용자 인증 처리 메서드 - request에서 userId를 추출해 인증된 사용자 ID를 반환
@@ -47,10 +69,14 @@ public class ClassroomController {
 
     /**
      * 전체 강의실 목록 조회
+     * paging=offset(기본값)이면 page 번호로, paging=cursor 이면 cursor 로 다음 페이지를 조회
+     * 커서 방식은 다음 페이지가 있을 때 Next-Cursor 헤더로 다음 커서를 반환
      * @param request    인증된 사용자 요청 객체
      * @param target     필터링 옵션 ("enrolled", "created" 등)
      * @param categoryId 카테고리 ID (선택)
-     * @param page       페이지 번호 (기본값: 0)
+     * @param page       페이지 번호 (기본값: 0, offset 방식)
+     * @param paging     페이징 방식 ("offset", "cursor")
+     * @param cursor     이전 응답의 Next-Cursor 값 (선택, cursor 방식)
      * @return ResponseEntity<List<ClassroomResponseDto>> 강의실 목록
      */
     @GetMapping
@@ -58,14 +84,28 @@ public class ClassroomController {
             HttpServletRequest request,
             @RequestParam(value = "target", required = false) String target,
             @RequestParam(value = "category", required = false) Integer categoryId,
-            @RequestParam(value = "page", defaultValue = "0") int page) {
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "paging", defaultValue = "offset") String paging,
+            @RequestParam(value = "cursor", required = false) String cursor) {
 
         String userId = null;
         if ("enrolled".equals(target) || "created".equals(target)) {
             userId = getAuthenticatedUserId(request);
         }
 
-        List<ClassroomResponseDto> classrooms = classroomService.getFilteredClassrooms(target, categoryId, userId, page, 12);
+        if ("cursor".equals(paging)) {
+            List<ClassroomResponseDto> classrooms = classroomService.getFilteredClassroomsByCursor(
+                    target, categoryId, userId, ClassroomCursor.decode(cursor), PAGE_SIZE);
+            ResponseEntity<Map<String, Object>> response =
+                    ApiResponse.success("강의실 목록 조회 성공", "Classrooms retrieved successfully", classrooms);
+            if (classrooms.size() < PAGE_SIZE) {
+                return response;
+            }
+            String nextCursor = ClassroomCursor.of(classrooms.get(classrooms.size() - 1)).encode();
+            return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, nextCursor).body(response.getBody());
+        }
+
+        List<ClassroomResponseDto> classrooms = classroomService.getFilteredClassrooms(target, categoryId, userId, page, PAGE_SIZE);
         return ApiResponse.success("강의실 목록 조회 성공", "Classrooms retrieved successfully", classrooms);
     }
 
@@ -106,12 +146,24 @@ public class ClassroomController {
     /**
      * 강의실 개별 정보 조회
      * @param classId 강의실 ID
-     * @return ResponseEntity<ClassroomResponseDto> 강의실 정보
+     * @return ResponseEntity<ClassroomResponseDto> 강의실 정보, 버전이 같으면 304
      */
     @GetMapping("/{classId}")
-    public ResponseEntity<?> getClassroomById(@PathVariable Long classId) {
+    public ResponseEntity<?> getClassroomById(@PathVariable Long classId, WebRequest webRequest) {
+        // 본문을 만들기 전에 버전만 조회해 변경이 없으면 304
+        ClassroomVersionDto version = classroomService.getClassroomVersion(classId);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;    // 304 Not Modified
+        }
+
         ClassroomResponseDto classroom = classroomService.getClassroomById(classId);
-        return ApiResponse.success("강의실 조회 성공", "Classroom retrieved successfully", classroom);
+        return ResponseEntity.ok()
+                .eTag(version.getEtag())
+                .lastModified(version.getLastModified())
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(detailMaxAgeSeconds))
+                        .sMaxAge(Duration.ofSeconds(detailSharedMaxAgeSeconds))
+                        .cachePublic())
+                .body(ApiResponse.success("강의실 조회 성공", "Classroom retrieved successfully", classroom).getBody());
     }
 
     /**
@@ -178,12 +230,25 @@ public class ClassroomController {
     }
 
     /**
-     * 강의 라이브 정보 수정
+     * 강의 라이브 정보 구독 (SSE) - 폴링 대신 상태가 바뀔 때마다 전송, STOMP 는 /topic/classes/{classId}/live 구독
      * @param classId 강의실 ID
-     * @return ResponseEntity<ClassroomDashboardDto> 강의 대시보드 정보
+     * @return Flux<ClassroomLiveStatusDto> 라이브 상태 스트림
+     */
+    @GetMapping(value = "/{classId}/isActive/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ClassroomLiveStatusDto> streamClassroomLiveStatus(@PathVariable Long classId) {
+        return classroomService.streamClassroomIsLive(classId);
+    }
+
+    /**
+     * 강의 라이브 정보 수정
+     * isActive 를 지정하면 해당 상태로 설정(중복 요청에 안전), 없으면 현재 상태를 반전
+     * @param classId  강의실 ID
+     * @param isActive 설정할 라이브 상태 (선택)
+     * @return ResponseEntity<ClassroomLiveStatusDto> 변경 후 라이브 상태와 버전
      */
     @PatchMapping("/{classId}/isActive")
-    public ResponseEntity<?> updateClassroomLiveStatus(HttpServletRequest request, @PathVariable Long classId) {
+    public ResponseEntity<?> updateClassroomLiveStatus(HttpServletRequest request, @PathVariable Long classId,
+                                                       @RequestParam(value = "isActive", required = false) Boolean isActive) {
 
         String userId = getAuthenticatedUserId(request);
         String role = classroomService.getUserRoleInClassroom(classId, userId);
@@ -195,7 +260,7 @@ public class ClassroomController {
             throw exception;
         }
 
-        ClassroomLiveStatusDto live = classroomService.changeClassroomIsLive(classId);
+        ClassroomLiveStatusDto live = classroomService.changeClassroomIsLive(classId, isActive);
         return ApiResponse.success("라이브 상태 수정 성공", "Live status updated successfully", live);
     }
 
@@ -271,4 +336,32 @@ public class ClassroomController {
         classroomService.enrollParticipant(userId, classId);
         return ApiResponse.success("수강 신청 완료", "Enrollment successful", null);
     }
+
+    /**
+     * 일괄 수강 등록 (강사 전용)
+     * 본문은 CSV(한 줄에 사용자 ID 하나) 또는 JSON 배열(["id", ...] 또는 [{"userId": "id"}, ...])
+     * @param request 인증된 사용자 요청 객체
+     * @param classId 강의실 ID
+     * @return ResponseEntity<EnrollmentImportDto> 결과별 건수와 행별 결과
+     */
+    @PostMapping(value = "/{classId}/enroll/bulk",
+            consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> importEnrollments(HttpServletRequest request, @PathVariable Long classId) throws IOException {
+
+        String userId = getAuthenticatedUserId(request);
+        String role = classroomService.getUserRoleInClassroom(classId, userId);
+
+        // 강사만 가능
+        if (!role.equals("강사")) {
+            RoleUnauthorizedException exception = new RoleUnauthorizedException("해당 강의에 접근 권한이 없습니다.", "Access denied");
+            Sentry.captureException(exception);
+            throw exception;
+        }
+
+        String contentType = request.getContentType();
+        EnrollmentImportDto result = contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)
+                ? enrollmentImportService.importJson(classId, request.getInputStream())
+                : enrollmentImportService.importCsv(classId, request.getInputStream());
+        return ApiResponse.success("일괄 수강 등록 완료", "Bulk enrollment completed", result);
+    }
 }
@@ -0,0 +1,48 @@
+package com.nemo.oceanAcademy.domain.classroom.application.dto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 강의실 목록 커서 (keyset 페이지네이션).
+ * 마지막으로 받은 강의실의 (생성 시각, ID) 를 담으며, 클라이언트에는 불투명한 문자열로 전달됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ClassroomCursor {
+
+    // 마지막 강의실의 생성 시각
+    private final LocalDateTime createdAt;
+
+    // 마지막 강의실 ID
+    private final Long id;
+
+    public static ClassroomCursor of(ClassroomResponseDto classroom) {
+        return new ClassroomCursor(classroom.getCreatedAt(), classroom.getId());
+    }
+
+    // 커서 문자열 해석 - 비어 있으면 첫 페이지
+    public static ClassroomCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('_');
+            return new ClassroomCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -24,6 +24,7 @@ public class ClassroomDashboardDto {
     private String announcement;      // 강의 공지
     private String bannerImagePath;   // 배너 이미지 경로
     private Boolean isActive;         // 강의실 활성화 여부
+    private long studentCount;        // 수강 인원
     private String role;              // 사용자 역할 (강사, 수강생, 관계없음)
     private List<ScheduleDto> schedules;  // 스케줄 목록
 }
@@ -1,4 +1,6 @@
 package com.nemo.oceanAcademy.domain.classroom.application.dto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,4 +12,23 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ClassroomLiveStatusDto {
     private boolean isActive;
+
+    // 강의실 버전 - 라이브 상태가 바뀔 때마다 증가, 클라이언트는 더 작은 버전의 이벤트를 무시
+    private long version;
+
+    // 카테고리 ID (목록 캐시 무효화용, 응답에는 포함하지 않음)
+    @JsonIgnore
+    private Integer categoryId;
+
+    // 강의실 삭제 알림 - true 이면 해당 강의실의 마지막 이벤트 (삭제 알림에만 포함)
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean deleted;
+
+    public ClassroomLiveStatusDto(boolean isActive, long version) {
+        this(isActive, version, null, false);
+    }
+
+    public ClassroomLiveStatusDto(boolean isActive, long version, Integer categoryId) {
+        this(isActive, version, categoryId, false);
+    }
 }
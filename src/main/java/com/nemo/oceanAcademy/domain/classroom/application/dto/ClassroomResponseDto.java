@@ -1,9 +1,12 @@
 package com.nemo.oceanAcademy.domain.classroom.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
 import jakarta.persistence.JoinColumn;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -55,6 +58,18 @@ public class ClassroomResponseDto {
     // 강의실 수강 인원
     private long studentCount;
 
+    // 강의실 생성 시각 (커서 생성용, 응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime createdAt;
+
+    // ClassroomRepository 목록 쿼리의 스칼라 프로젝션용 - 카테고리 이름(category)은 조회 후 CategoryCatalog 에서 채움
+    public ClassroomResponseDto(Long id, String userId, Integer categoryId, String instructor, String name, String object,
+                                String description, String instructorInfo, String prerequisite, String announcement,
+                                String bannerImagePath, Boolean isActive, long studentCount, LocalDateTime createdAt) {
+        this(id, userId, categoryId, instructor, null, name, object, description, instructorInfo, prerequisite,
+                announcement, bannerImagePath, isActive, studentCount, createdAt);
+    }
+
     // Classroom 엔티티를 기반으로 생성하는 생성자 추가
     public ClassroomResponseDto(Classroom classroom) {
         this.id = classroom.getId();  // 강의실 아이디
@@ -70,6 +85,8 @@ public class ClassroomResponseDto {
         this.announcement = classroom.getAnnouncement();  // 강의 공지
         this.bannerImagePath = classroom.getBannerImagePath();  // 배너 이미지 경로
         this.isActive = classroom.getIsActive();  // 강의실 활성화 여부
+        this.studentCount = classroom.getStudentCount();  // 수강 인원
+        this.createdAt = classroom.getCreatedAt();  // 생성 시각
     }
 
     // 수강 인원을 설정하는 생성자
@@ -0,0 +1,28 @@
+package com.nemo.oceanAcademy.domain.classroom.application.dto;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 강의실과 사용자의 관계 (한 번의 쿼리로 조회).
+ * 조회한 강의실 엔티티를 함께 보관해, 같은 요청 안에서 강의실을 다시 조회하지 않도록 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ClassroomRoleDto {
+
+    // 조회한 강의실
+    private final Classroom classroom;
+
+    // 강사 여부
+    private final boolean instructor;
+
+    // 수강생 여부
+    private final boolean participant;
+
+    // 사용자 역할 (강사, 수강생, 관계없음)
+    public String getRole() {
+        if (instructor) return "강사";
+        return participant ? "수강생" : "관계없음";
+    }
+}
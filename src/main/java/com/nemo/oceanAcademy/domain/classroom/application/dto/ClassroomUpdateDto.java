@@ -2,6 +2,7 @@ package com.nemo.oceanAcademy.domain.classroom.application.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.Column;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.*;
 
 @Data
@@ -44,4 +45,9 @@ public class ClassroomUpdateDto {
     @Column(nullable = true)
     @JsonProperty("isActive")
     private Boolean isActive;
+
+    // 수강 정원 (선택, 없으면 제한 없음)
+    @Positive(message = "수강 정원은 1명 이상이어야 합니다.")
+    @JsonProperty("capacity")
+    private Integer capacity;
 }
@@ -0,0 +1,59 @@
+package com.nemo.oceanAcademy.domain.classroom.application.dto;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 강의실 상세 조회의 조건부 요청(If-None-Match, If-Modified-Since) 판단용 버전 정보
+ */
+@Getter
+public class ClassroomVersionDto {
+
+    // 강의실 ID
+    private Long id;
+
+    // 강의실 버전 - 정보 수정, 라이브 전환마다 증가
+    private long version;
+
+    // 수강 인원 - 버전과 별도로 바뀌므로 ETag 에 포함
+    private Long studentCount;
+
+    // 마지막 수정 시각 (KST) - 강사 닉네임 변경 시에도 갱신됨
+    private LocalDateTime updatedAt;
+
+    // 카테고리 ID
+    private Integer categoryId;
+
+    // 강사 닉네임 - 강의실 버전과 별도로 바뀌므로 ETag 에 포함
+    private String instructor;
+
+    // 카테고리 이름 (CategoryCatalog 에서 채움) - 응답 본문에 포함되므로 ETag 에 포함
+    @Setter
+    private String category;
+
+    public ClassroomVersionDto(Long id, long version, Long studentCount, LocalDateTime updatedAt,
+                               Integer categoryId, String instructor) {
+        this.id = id;
+        this.version = version;
+        this.studentCount = studentCount;
+        this.updatedAt = updatedAt;
+        this.categoryId = categoryId;
+        this.instructor = instructor;
+    }
+
+    // 강한 ETag - 버전, 수강 인원, 강사 닉네임, 카테고리 이름이 같으면 같은 응답
+    public String getEtag() {
+        String names = instructor + "\n" + category;
+        return "\"" + id + "-" + version + "-" + studentCount + "-"
+                + DigestUtils.md5DigestAsHex(names.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Last-Modified (epoch ms), 수정 시각이 없으면 -1
+    public long getLastModified() {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,80 @@
+package com.nemo.oceanAcademy.domain.classroom.application.service;
+import com.nemo.oceanAcademy.common.cache.GroupedCache;
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 공개 강의실 목록(전체, 라이브, 카테고리별) 페이지 캐시.
+ * 카테고리별로 (target, page, pageSize) 결과를 묶어 보관하고, 강의실 생성/수정/삭제/라이브 전환 시 해당 카테고리와
+ * 전체 카테고리(카테고리 조건 없음) 페이지만 제거합니다.
+ * 조회 도중 쓰기가 끝난 경우에는 조회 결과를 캐시에 넣지 않아, 쓰기 이후 이전 페이지가 응답되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClassroomPageCache {
+
+    // 카테고리 조건이 없는 페이지의 그룹
+    private static final CategoryGroup ALL_CATEGORIES = new CategoryGroup(null);
+
+    private final MeterRegistry meterRegistry;
+
+    // 캐시에 보관할 최대 카테고리 수
+    @Value("${classroom.page-cache.maximum-size:1000}")
+    private long maximumSize;
+
+    // 카테고리 하나당 보관할 최대 페이지 수
+    @Value("${classroom.page-cache.maximum-pages-per-category:200}")
+    private int maximumPagesPerCategory;
+
+    // 페이지 유지 시간 - 강사 닉네임 변경처럼 무효화하지 않는 변경은 이 시간 안에 반영됨
+    @Value("${classroom.page-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private GroupedCache<CategoryGroup, PageKey, List<ClassroomResponseDto>> pages;
+
+    @PostConstruct
+    public void init() {
+        pages = new GroupedCache<>("classroomPages", maximumSize, maximumPagesPerCategory,
+                Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    /**
+     * 캐시된 페이지를 반환하고, 없으면 loader 로 조회 후 저장
+     * @param target     조회 대상 (null, all, live 등 공개 목록)
+     * @param categoryId 카테고리 ID (선택)
+     * @param page       페이지 번호
+     * @param pageSize   페이지 크기
+     * @param loader     DB 조회
+     * @return List<ClassroomResponseDto> 강의실 목록
+     */
+    public List<ClassroomResponseDto> get(String target, Integer categoryId, int page, int pageSize,
+                                          Supplier<List<ClassroomResponseDto>> loader) {
+        return pages.get(new CategoryGroup(categoryId), new PageKey(target, page, pageSize), () -> List.copyOf(loader.get()));
+    }
+
+    // 카테고리의 페이지와 카테고리 조건이 없는 페이지 제거
+    public void evictCategory(Integer categoryId) {
+        pages.invalidate(new CategoryGroup(categoryId));
+        pages.invalidate(ALL_CATEGORIES);
+    }
+
+    // 모든 페이지 제거
+    public void evictAll() {
+        pages.invalidateAll();
+    }
+
+    // 카테고리 ID 는 null(조건 없음)일 수 있으므로 캐시 키로 감쌈
+    private record CategoryGroup(Integer categoryId) {
+    }
+
+    private record PageKey(String target, int page, int pageSize) {
+    }
+}
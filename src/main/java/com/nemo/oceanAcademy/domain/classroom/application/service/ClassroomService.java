@@ -4,21 +4,32 @@ import com.nemo.oceanAcademy.domain.classroom.application.dto.*;
 import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
 import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
 import com.nemo.oceanAcademy.domain.participant.application.dto.ParticipantResponseDto;
+import com.nemo.oceanAcademy.domain.participant.application.service.ClassroomMembershipCache;
+import com.nemo.oceanAcademy.domain.category.application.service.CategoryCatalog;
 import com.nemo.oceanAcademy.domain.category.dataAccess.entity.Category;
 import com.nemo.oceanAcademy.domain.category.dataAccess.repository.CategoryRepository;
 import com.nemo.oceanAcademy.domain.participant.dataAccess.entity.Participant;
 import com.nemo.oceanAcademy.domain.participant.dataAccess.repository.ParticipantRepository;
 import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleDto;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
+import com.nemo.oceanAcademy.domain.schedule.application.service.InstructorScheduleIndex;
+import com.nemo.oceanAcademy.domain.schedule.application.service.ScheduleCalendarCache;
 import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
 import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
 import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import com.nemo.oceanAcademy.common.exception.ClassroomFullException;
 import com.nemo.oceanAcademy.common.exception.ResourceNotFoundException;
 import io.sentry.Sentry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Flux;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -26,7 +37,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -53,10 +67,20 @@ public class ClassroomService {
 
     private final ClassroomRepository classroomRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryCatalog categoryCatalog;
     private final ParticipantRepository participantRepository;
     private final UserRepository userRepository;
     private final ScheduleRepository scheduleRepository;
     private final S3ImageUtils imageUtils;
+    private final ClassroomMembershipCache classroomMembershipCache;
+    private final ClassroomPageCache classroomPageCache;
+    private final LiveClassroomRegistry liveClassroomRegistry;
+    private final ScheduleCalendarCache scheduleCalendarCache;
+    private final InstructorScheduleIndex instructorScheduleIndex;
+    private final IcsFeedService icsFeedService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String ROLE_ATTRIBUTE_PREFIX = "classroomRole:";
 
 
     // 공통 변환 메서드
@@ -66,7 +90,7 @@ public class ClassroomService {
                 .categoryId(classroom.getCategory().getId())
                 .userId(classroom.getUser().getId())
                 .instructor(classroom.getUser().getNickname())
-                .category(classroom.getCategory().getName())
+                .category(categoryCatalog.getName(classroom.getCategory().getId()))
                 .name(classroom.getName())
                 .object(classroom.getObject())
                 .description(classroom.getDescription())
@@ -75,48 +99,81 @@ public class ClassroomService {
                 .announcement(classroom.getAnnouncement())
                 .bannerImagePath(classroom.getBannerImagePath())
                 .isActive(classroom.getIsActive())
+                .studentCount(classroom.getStudentCount())
+                .createdAt(classroom.getCreatedAt())
                 .build();
     }
 
     // 전체 강의실 조회
-    public List<ClassroomResponseDto> getAllClassrooms(Pageable pageable) {
-        try {
-            return classroomRepository.findAllWithJoins(pageable).stream()
-                    .map(this::toClassroomResponseDto)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            Sentry.captureException(e);
-            throw e;
-        }
+    private List<ClassroomResponseDto> getAllClassrooms(LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable) {
+        return classroomRepository.findAllWithJoins(cursorCreatedAt, cursorId, pageable).stream()
+                .map(this::toClassroomResponseDto)
+                .collect(Collectors.toList());
     }
 
-    // 강의 필터링 및 페이징 처리
+    // 강의 필터링 및 페이징 처리 (offset 방식)
     public List<ClassroomResponseDto> getFilteredClassrooms(String target, Integer categoryId, String userId, int page, int pageSize) {
         try {
             Pageable pageable = PageRequest.of(page, pageSize);
 
-            if (target != null) {
-                switch (target) {
-                    case "live":
-                        return classroomRepository.findLiveClassrooms(categoryId, pageable);
-                    case "enrolled":
-                        return classroomRepository.findEnrolledClassrooms(categoryId, userId, pageable);
-                    case "created":
-                        return classroomRepository.findCreatedClassrooms(categoryId, userId, pageable);
-                    default:
-                        return getAllClassrooms(pageable);
-                }
+            // 사용자별 목록(enrolled, created)을 제외한 공개 목록만 캐시
+            if ("enrolled".equals(target) || "created".equals(target)) {
+                return findClassrooms(target, categoryId, userId, null, pageable);
             }
+            return classroomPageCache.get(target, categoryId, page, pageSize,
+                    () -> findClassrooms(target, categoryId, userId, null, pageable));
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            throw e;
+        }
+    }
 
-            return categoryId != null
-                    ? classroomRepository.findClassroomsByCategoryId(categoryId, pageable)
-                    : getAllClassrooms(pageable);
+    /**
+     * 강의 필터링 및 커서(keyset) 페이징 처리 - 최신순 (createdAt, id) 정렬로 OFFSET 없이 다음 페이지 조회
+     * @param cursor   마지막으로 받은 강의실 위치 (null 이면 첫 페이지)
+     * @param pageSize 페이지 크기
+     */
+    public List<ClassroomResponseDto> getFilteredClassroomsByCursor(String target, Integer categoryId, String userId, ClassroomCursor cursor, int pageSize) {
+        try {
+            return findClassrooms(target, categoryId, userId, cursor, PageRequest.of(0, pageSize));
         } catch (Exception e) {
             Sentry.captureException(e);
             throw e;
         }
     }
 
+    private List<ClassroomResponseDto> findClassrooms(String target, Integer categoryId, String userId, ClassroomCursor cursor, Pageable pageable) {
+        List<ClassroomResponseDto> classrooms = queryClassrooms(target, categoryId, userId, cursor, pageable);
+        // 목록 쿼리는 카테고리를 조인하지 않으므로 카탈로그에서 이름을 채움
+        classrooms.forEach(classroom -> classroom.setCategory(categoryCatalog.getName(classroom.getCategoryId())));
+        return classrooms;
+    }
+
+    private List<ClassroomResponseDto> queryClassrooms(String target, Integer categoryId, String userId, ClassroomCursor cursor, Pageable pageable) {
+        LocalDateTime cursorCreatedAt = cursor != null ? cursor.getCreatedAt() : null;
+        Long cursorId = cursor != null ? cursor.getId() : null;
+
+        if (target != null) {
+            switch (target) {
+                case "live":
+                    Set<Long> liveIds = liveClassroomRegistry.getLiveIds();
+                    return liveIds.isEmpty()
+                            ? List.of()
+                            : classroomRepository.findLiveClassrooms(liveIds, categoryId, cursorCreatedAt, cursorId, pageable);
+                case "enrolled":
+                    return classroomRepository.findEnrolledClassrooms(categoryId, userId, cursorCreatedAt, cursorId, pageable);
+                case "created":
+                    return classroomRepository.findCreatedClassrooms(categoryId, userId, cursorCreatedAt, cursorId, pageable);
+                default:
+                    return getAllClassrooms(cursorCreatedAt, cursorId, pageable);
+            }
+        }
+
+        return categoryId != null
+                ? classroomRepository.findClassroomsByCategoryId(categoryId, cursorCreatedAt, cursorId, pageable)
+                : getAllClassrooms(cursorCreatedAt, cursorId, pageable);
+    }
+
     // 새로운 강의 생성
     public ClassroomResponseDto createClassroom(ClassroomCreateDto classroomCreateDto, MultipartFile imagefile) {
         try {
@@ -134,6 +191,7 @@ public class ClassroomService {
                     .instructorInfo(classroomCreateDto.getInstructorInfo())
                     .prerequisite(classroomCreateDto.getPrerequisite())
                     .announcement(classroomCreateDto.getAnnouncement())
+                    .capacity(classroomCreateDto.getCapacity())
                     .isActive(false)
                     .build();
 
@@ -144,6 +202,8 @@ public class ClassroomService {
             }
 
             classroomRepository.save(classroom);
+            liveClassroomRegistry.register(classroom.getId(), false, classroom.getVersion());
+            classroomPageCache.evictCategory(category.getId());
             return toClassroomResponseDto(classroom);
         } catch (Exception e) {
             Sentry.captureException(e);
@@ -172,6 +232,7 @@ public class ClassroomService {
             if (classroomUpdateDto.getInstructorInfo() != null) classroom.setInstructorInfo(classroomUpdateDto.getInstructorInfo());
             if (classroomUpdateDto.getPrerequisite() != null) classroom.setPrerequisite(classroomUpdateDto.getPrerequisite());
             if (classroomUpdateDto.getAnnouncement() != null) classroom.setAnnouncement(classroomUpdateDto.getAnnouncement());
+            if (classroomUpdateDto.getCapacity() != null) classroom.setCapacity(classroomUpdateDto.getCapacity());
 
             // 배너 이미지 파일 업데이트
             if (imagefile != null && !imagefile.isEmpty()) {
@@ -186,7 +247,13 @@ public class ClassroomService {
                 classroom.setBannerImagePath(fileName);
             }
 
-            classroomRepository.save(classroom);
+            classroom = classroomRepository.save(classroom);     // 증가한 버전 반영
+            // 레지스트리를 먼저 갱신해야 무효화 직후의 목록 조회가 이전 라이브 상태로 캐시되지 않음
+            liveClassroomRegistry.update(classId, classroom.getIsActive(), classroom.getVersion());
+            classroomPageCache.evictCategory(classroom.getCategory().getId());
+            if (classroomUpdateDto.getName() != null) {
+                evictCalendars(classroom);      // 일정 제목과 강의실 피드 이름에 강의실 이름이 들어감
+            }
             return toClassroomResponseDto(classroom);
         } catch (Exception e) {
             Sentry.captureException(e);
@@ -206,6 +273,23 @@ public class ClassroomService {
         }
     }
 
+    /**
+     * 강의실 상세 조회의 조건부 요청 판단용 버전 정보 - 본문 전체 대신 버전, 수강 인원, 수정 시각, 강사 닉네임, 카테고리 이름만 조회
+     * @param classId 강의실 ID
+     * @return ClassroomVersionDto ETag, Last-Modified 계산용 정보
+     */
+    public ClassroomVersionDto getClassroomVersion(Long classId) {
+        try {
+            ClassroomVersionDto version = classroomRepository.findVersion(classId)
+                    .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.", "Classroom not found"));
+            version.setCategory(categoryCatalog.getName(version.getCategoryId()));     // 본문과 같은 카테고리 이름으로 ETag 계산
+            return version;
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            throw e;
+        }
+    }
+
     // Soft Delete 방식으로 강의실 삭제
     public void deleteClassroom(Long classId) {
         try {
@@ -213,27 +297,61 @@ public class ClassroomService {
                     .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.", "Classroom not found"));
             classroom.setDeletedAt(LocalDateTime.now());
             classroomRepository.save(classroom);
+            liveClassroomRegistry.remove(classId);
+            classroomPageCache.evictCategory(classroom.getCategory().getId());
+            instructorScheduleIndex.evict(classroom.getUser().getId());     // 삭제된 강의실 일정 제외
+            evictCalendars(classroom);
         } catch (Exception e) {
             Sentry.captureException(e);
             throw e;
         }
     }
 
-    // 사용자의 강의실 역할 확인
-    public String getUserRoleInClassroom(Long classId, String userId) {
+    // 강의실 피드와 강의실의 강사, 수강생 캘린더 캐시 제거
+    private void evictCalendars(Classroom classroom) {
+        List<String> userIds = new ArrayList<>(participantRepository.findUserIdsByClassroomId(classroom.getId()));
+        userIds.add(classroom.getUser().getId());
+        scheduleCalendarCache.evictUsers(userIds);
+        icsFeedService.evictClassroom(classroom.getId());
+        icsFeedService.evictUsers(userIds);
+    }
+
+    /**
+     * 사용자와 강의실의 관계를 한 번의 쿼리로 조회
+     * 결과는 요청 단위로 보관되어 컨트롤러의 권한 확인과 서비스 로직이 같은 결과를 재사용
+     * @param classId 강의실 ID
+     * @param userId  사용자 ID
+     * @return ClassroomRoleDto 조회한 강의실과 강사/수강생 여부
+     */
+    public ClassroomRoleDto getClassroomRole(Long classId, String userId) {
         try {
-            Classroom classroom = classroomRepository.findById(classId)
-                    .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.", "Classroom not found"));
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            String attributeName = ROLE_ATTRIBUTE_PREFIX + classId + ":" + userId;
+            if (requestAttributes != null) {
+                Object cached = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+                if (cached != null) {
+                    return (ClassroomRoleDto) cached;
+                }
+            }
 
-            if (classroom.getUser().getId().equals(userId)) return "강사";
+            ClassroomRoleDto classroomRole = classroomRepository.findClassroomRole(classId, userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.", "Classroom not found"));
 
-            return participantRepository.existsByClassroomIdAndUserId(classId, userId) ? "수강생" : "관계없음";
+            if (requestAttributes != null) {
+                requestAttributes.setAttribute(attributeName, classroomRole, RequestAttributes.SCOPE_REQUEST);
+            }
+            return classroomRole;
         } catch (Exception e) {
             Sentry.captureException(e);
             throw e;
         }
     }
 
+    // 사용자의 강의실 역할 확인
+    public String getUserRoleInClassroom(Long classId, String userId) {
+        return getClassroomRole(classId, userId).getRole();
+    }
+
     // 강의를 듣는 수강생 리스트 조회
     public List<ParticipantResponseDto> getClassroomStudents(Long classId) {
         try {
@@ -262,6 +380,13 @@ public class ClassroomService {
     // 강의실 라이브 정보 불러오기
     public ClassroomLiveStatusDto getClassroomIsLive(Long classId) {
         try {
+            // 레지스트리에 있으면 DB 조회 없이 응답
+            ClassroomLiveStatusDto registered = liveClassroomRegistry.getStatus(classId);
+            if (registered != null) {
+                return registered;
+            }
+
+            // 다른 서버에서 생성된 뒤 아직 적재되지 않은 강의실
             Classroom classroom = classroomRepository.findById(classId)
                     .orElseThrow(() -> {
                         ResourceNotFoundException exception = new ResourceNotFoundException(
@@ -278,9 +403,8 @@ public class ClassroomService {
                         return exception;
                     });
 
-            return ClassroomLiveStatusDto.builder()
-                    .isActive(classroom.getIsActive())
-                    .build();
+            liveClassroomRegistry.register(classId, classroom.getIsActive(), classroom.getVersion());
+            return new ClassroomLiveStatusDto(classroom.getIsActive(), classroom.getVersion());
 
         } catch (Exception e) {
             Sentry.captureException(e);
@@ -288,21 +412,43 @@ public class ClassroomService {
         }
     }
 
-    // 강의실 라이브 정보 수정하기
-    public ClassroomLiveStatusDto changeClassroomIsLive(Long classId) {
-        try {
-            Classroom classroom = classroomRepository.findById(classId)
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                            "해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.",
-                            "Classroom not found"
-                    ));
+    /**
+     * 강의실 라이브 상태 스트림 (SSE) - 현재 상태 이후 변경될 때마다 전송
+     * @param classId 강의실 ID
+     * @return Flux<ClassroomLiveStatusDto> 라이브 상태 스트림
+     */
+    public Flux<ClassroomLiveStatusDto> streamClassroomIsLive(Long classId) {
+        getClassroomIsLive(classId);    // 존재하지 않는 강의실이면 예외
+        return liveClassroomRegistry.stream(classId);
+    }
 
-            classroom.setIsActive(!classroom.getIsActive());
-            classroomRepository.save(classroom);
+    /**
+     * 강의실 라이브 정보 수정하기
+     * 조회 없이 조건부 UPDATE 한 번으로 변경하고, 같은 트랜잭션에서 결과(상태, 버전)를 확인
+     * @param classId  강의실 ID
+     * @param isActive 설정할 상태 (null 이면 현재 상태를 반전)
+     * @return ClassroomLiveStatusDto 변경 후 라이브 상태와 버전
+     */
+    public ClassroomLiveStatusDto changeClassroomIsLive(Long classId, Boolean isActive) {
+        try {
+            ClassroomLiveStatusDto live = transactionTemplate.execute(status -> {
+                if (isActive == null) {
+                    classroomRepository.toggleIsActive(classId, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+                } else {
+                    classroomRepository.updateIsActive(classId, isActive, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+                }
+                return classroomRepository.findLiveStatus(classId)
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                "해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.",
+                                "Classroom not found"
+                        ));
+            });
 
-            return ClassroomLiveStatusDto.builder()
-                    .isActive(classroom.getIsActive())
-                    .build();
+            // 커밋 이후에 레지스트리 갱신(버전 순서로 반영, 구독자 전송) 후 캐시 무효화
+            // 무효화를 먼저 하면 그 사이의 라이브 목록 조회가 이전 레지스트리로 다시 캐시됨
+            liveClassroomRegistry.update(classId, live.isActive(), live.getVersion());
+            classroomPageCache.evictCategory(live.getCategoryId());
+            return live;
 
         } catch (Exception e) {
             Sentry.captureException(e);
@@ -313,24 +459,9 @@ public class ClassroomService {
     // 강의실 대시보드 정보 및 스케줄 가져오기
     public ClassroomDashboardDto getClassroomDashboard(Long classId, String userId) {
         try {
-            Classroom classroom = classroomRepository.findById(classId)
-                    .orElseThrow(() -> {
-                        ResourceNotFoundException exception = new ResourceNotFoundException(
-                                "해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.",
-                                "Classroom not found"
-                        );
-
-                        Sentry.withScope(scope -> {
-                            scope.setTag("classroom_id", classId.toString());
-                            scope.setTag("user_id", userId);
-                            scope.setExtra("error_type", "Classroom Not Found");
-                            Sentry.captureException(exception);
-                        });
-
-                        return exception;
-                    });
-
-            String role = getUserRoleInClassroom(classId, userId);
+            ClassroomRoleDto classroomRole = getClassroomRole(classId, userId);   // 컨트롤러에서 조회한 결과 재사용
+            Classroom classroom = classroomRole.getClassroom();
+            String role = classroomRole.getRole();
             List<ScheduleDto> schedules = scheduleRepository.findSchedulesByClassroomId(classId);
 
             return ClassroomDashboardDto.builder()
@@ -345,6 +476,7 @@ public class ClassroomService {
                     .announcement(classroom.getAnnouncement())
                     .bannerImagePath(classroom.getBannerImagePath())
                     .isActive(classroom.getIsActive())
+                    .studentCount(classroom.getStudentCount())
                     .role(role)
                     .schedules(schedules)
                     .build();
@@ -355,21 +487,49 @@ public class ClassroomService {
         }
     }
 
-    // 수강 신청
+    /**
+     * 수강 신청
+     * 수강생 등록(유니크 키)과 좌석 확보(정원 조건부 UPDATE)를 한 트랜잭션으로 처리
+     * 사용자, 강의실 엔티티는 조회하지 않고 참조만 사용하며, 강의실 행 잠금은 커밋 직전 UPDATE 에서만 잡아 짧게 유지
+     * 동시에 들어온 중복 신청은 유니크 키 위반으로 롤백되고 이미 등록된 것으로 처리 (멱등)
+     * @param userId  사용자 ID
+     * @param classId 강의실 ID
+     */
     public void enrollParticipant(String userId, Long classId) {
         try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + userId + ")의 사용자를 찾을 수 없습니다.", "User not found"));
-            Classroom classroom = classroomRepository.findById(classId)
-                    .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.", "Classroom not found"));
-
-            Participant participant = Participant.builder()
-                    .user(user)
-                    .classroom(classroom)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            participantRepository.save(participant);
+            transactionTemplate.executeWithoutResult(status -> {
+                Participant participant = Participant.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .classroom(classroomRepository.getReferenceById(classId))
+                        .createdAt(LocalDateTime.now())
+                        .build();
+                participantRepository.saveAndFlush(participant);
+
+                if (classroomRepository.reserveSeat(classId, LocalDateTime.now(ZoneId.of("Asia/Seoul"))) == 0) {
+                    if (!classroomRepository.existsById(classId)) {
+                        throw new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.", "Classroom not found");
+                    }
+                    throw new ClassroomFullException("수강 정원이 마감되었습니다.", "Classroom is full");
+                }
+            });
+            classroomMembershipCache.invalidate(classId, userId);   // 채팅방 권한 즉시 반영
+            scheduleCalendarCache.evictUsers(List.of(userId));      // 내 캘린더에 강의 일정 반영
+            icsFeedService.evictUsers(List.of(userId));
+        } catch (DataIntegrityViolationException e) {
+            if (participantRepository.existsByClassroomIdAndUserId(classId, userId)) {
+                return;     // 이미 수강 중 - 중복 신청
+            }
+            // 참조만 사용하므로 없는 강의실, 사용자는 외래 키 위반으로 드러남
+            if (!classroomRepository.existsById(classId)) {
+                throw new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.", "Classroom not found");
+            }
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("해당하는 ID(" + userId + ")의 사용자를 찾을 수 없습니다.", "User not found");
+            }
+            Sentry.captureException(e);
+            throw e;
+        } catch (ClassroomFullException e) {
+            throw e;        // 정상적인 마감 응답
         } catch (Exception e) {
             Sentry.captureException(e);
             throw e;
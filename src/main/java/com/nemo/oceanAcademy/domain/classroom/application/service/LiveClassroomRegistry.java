@@ -0,0 +1,290 @@
+package com.nemo.oceanAcademy.domain.classroom.application.service;
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomLiveStatusDto;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import io.sentry.Sentry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 강의실 라이브 상태 레지스트리.
+ * 시작 시 전체 강의실의 라이브 여부를 읽어 메모리에 보관하고, 라이브 전환 시 갱신 후 STOMP(/topic/classes/{id}/live)와
+ * SSE 구독자에게 변경을 전송합니다. 라이브 상태 조회와 라이브 강의 목록은 DB 대신 이 레지스트리를 사용합니다.
+ * 상태는 강의실 버전과 함께 보관하며 더 높은 버전만 반영하므로, 요청 처리 순서나 재적재 시점과 관계없이 최신 상태가 유지됩니다.
+ * 다른 서버에서 변경된 상태는 주기적인 재적재로 반영하며, 재적재는 라이브 중이거나 최근 변경된 강의실만 읽습니다.
+ * 재적재에서 변경이 확인된 강의실은 목록 페이지 캐시에서도 제거합니다.
+ * 강의실이 제거(삭제)되면 구독자에게 삭제 알림(deleted, 가장 높은 버전)을 마지막으로 전송하고 SSE 스트림을 종료합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveClassroomRegistry {
+
+    private static final String LIVE_TOPIC_FORMAT = "/topic/classes/%d/live";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ClassroomRepository classroomRepository;
+    private final SimpMessagingTemplate template;
+    private final ClassroomPageCache classroomPageCache;
+
+    // 강의실 ID -> 라이브 상태 (삭제된 강의실은 없음)
+    private final Map<Long, LiveStatus> statuses = new ConcurrentHashMap<>();
+    private final Set<Long> liveIds = ConcurrentHashMap.newKeySet();
+
+    // 재적재 도중 이 서버에서 추가된 강의실 - 재적재 결과에 없어도 제거하지 않음
+    private final Set<Long> registeredDuringReload = ConcurrentHashMap.newKeySet();
+
+    private final Sinks.Many<LiveStatusEvent> events = Sinks.many().multicast().directBestEffort();
+
+    // 강의실별 전송 순서용 잠금 (강의실 ID 로 나눈 칸)과 마지막으로 전송한 버전
+    private final Object[] notifyLocks = IntStream.range(0, 64).mapToObj(i -> new Object()).toArray();
+    private final Map<Long, Long> sentVersions = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    // 마지막 적재 시작 시각 - 다음 재적재는 이 시각 이후 변경된 강의실만 조회
+    private LocalDateTime lastLoadedAt;
+
+    // 변경분 조회 시 앞으로 겹쳐 읽을 시간 - 서버 간 시계 차이와 늦게 커밋된 트랜잭션 보정
+    @Value("${classroom.live-registry.reload-overlap-ms:60000}")
+    private long reloadOverlapMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reload();
+    }
+
+    // 다른 서버의 변경 반영 - 처음에는 전체를, 이후에는 라이브 중이거나 마지막 적재 이후 변경된 강의실만 읽음
+    @Scheduled(fixedDelayString = "${classroom.live-registry.reload-interval-ms:30000}",
+            initialDelayString = "${classroom.live-registry.reload-interval-ms:30000}")
+    public synchronized void reload() {
+        try {
+            registeredDuringReload.clear();
+            LocalDateTime startedAt = LocalDateTime.now(ZONE);
+            if (loaded) {
+                reloadChanged(lastLoadedAt.minus(Duration.ofMillis(reloadOverlapMs)));
+            } else {
+                reloadAll();
+            }
+            lastLoadedAt = startedAt;
+            loaded = true;
+        } catch (Exception e) {
+            log.error("라이브 상태 적재 실패", e);
+            Sentry.captureException(e);
+        }
+    }
+
+    // 전체 강의실 적재 - 결과에 없는 강의실은 삭제된 것으로 보고 제거
+    private void reloadAll() {
+        Set<Long> existing = new HashSet<>();
+        for (Object[] row : classroomRepository.findAllLiveStatuses()) {
+            Long classId = (Long) row[0];
+            existing.add(classId);
+            apply(classId, new LiveStatus((Boolean) row[1], (Long) row[2]), false);
+        }
+        for (Long classId : Set.copyOf(statuses.keySet())) {
+            if (!existing.contains(classId) && !registeredDuringReload.contains(classId)) {
+                remove(classId);
+            }
+        }
+    }
+
+    // 변경분 적재 - 라이브 중인 강의실과 since 이후 수정/삭제된 강의실만 조회
+    private void reloadChanged(LocalDateTime since) {
+        Set<Long> live = new HashSet<>();
+        for (Object[] row : classroomRepository.findLiveOrChangedStatuses(since)) {
+            Long classId = ((Number) row[0]).longValue();
+            Integer categoryId = ((Number) row[4]).intValue();
+            if (toBoolean(row[3])) {
+                if (remove(classId)) {   // 삭제된 강의실
+                    classroomPageCache.evictCategory(categoryId);
+                }
+                continue;
+            }
+            boolean isActive = toBoolean(row[1]);
+            if (isActive) {
+                live.add(classId);
+            }
+            // 다른 서버에서 변경된 강의실 - 목록 캐시에 이전 상태가 남지 않도록 제거
+            if (apply(classId, new LiveStatus(isActive, ((Number) row[2]).longValue()), true)) {
+                classroomPageCache.evictCategory(categoryId);
+            }
+        }
+
+        // 라이브였지만 조회되지 않은 강의실은 수정 시각 없이 삭제된 것 (카테고리를 알 수 없으므로 전체 제거)
+        boolean removed = false;
+        for (Long classId : Set.copyOf(liveIds)) {
+            if (!live.contains(classId) && !registeredDuringReload.contains(classId)) {
+                removed |= remove(classId);
+            }
+        }
+        if (removed) {
+            classroomPageCache.evictAll();
+        }
+    }
+
+    /**
+     * 강의실 라이브 상태 조회
+     * @param classId 강의실 ID
+     * @return ClassroomLiveStatusDto 라이브 상태와 버전, 레지스트리에 없는 강의실이면 null
+     */
+    public ClassroomLiveStatusDto getStatus(Long classId) {
+        ensureLoaded();
+        LiveStatus status = statuses.get(classId);
+        return status != null ? status.toDto() : null;
+    }
+
+    // 현재 라이브 중인 강의실 ID
+    public Set<Long> getLiveIds() {
+        ensureLoaded();
+        return Set.copyOf(liveIds);
+    }
+
+    // 라이브 상태 변경 반영 후 구독자에게 전송
+    public void update(Long classId, boolean isActive, long version) {
+        apply(classId, new LiveStatus(isActive, version), true);
+    }
+
+    // 새로 생성되었거나 DB 에서 확인한 강의실 상태 기록 (전송 없음)
+    public void register(Long classId, boolean isActive, long version) {
+        registeredDuringReload.add(classId);
+        apply(classId, new LiveStatus(isActive, version), false);
+    }
+
+    // 강의실 삭제 시 제거 후 구독자에게 삭제 알림 전송 - 레지스트리에 있었으면 true
+    public boolean remove(Long classId) {
+        boolean[] removed = new boolean[1];
+        // 전송 잠금 안에서 제거해, 진행 중인 상태 전송이 삭제 알림보다 늦게 나가지 않도록 함
+        synchronized (notifyLock(classId)) {
+            statuses.computeIfPresent(classId, (id, current) -> {
+                liveIds.remove(id);
+                sentVersions.remove(id);
+                removed[0] = true;
+                return null;
+            });
+            if (removed[0]) {
+                send(classId, LiveStatus.DELETED);
+            }
+        }
+        return removed[0];
+    }
+
+    /**
+     * 강의실 라이브 상태 스트림 - 현재 상태를 먼저 보내고 이후 변경을 전송, 강의실이 삭제되면 삭제 알림 후 종료
+     * 전송 잠금 안에서 변경을 구독하고 현재 상태를 보내므로, 그 사이의 변경이 빠지거나 현재 상태보다 먼저 나가지 않음
+     * @param classId 강의실 ID
+     * @return Flux<ClassroomLiveStatusDto> 라이브 상태 스트림
+     */
+    public Flux<ClassroomLiveStatusDto> stream(Long classId) {
+        return Flux.<LiveStatus>create(sink -> {
+            synchronized (notifyLock(classId)) {
+                LiveStatus current = statuses.get(classId);
+                long currentVersion = current != null ? current.version() : -1L;
+                sink.onDispose(events.asFlux()
+                        .filter(event -> event.classId().equals(classId) && event.status().version() > currentVersion)
+                        .subscribe(event -> sink.next(event.status())));
+                if (current != null) {
+                    sink.next(current);
+                }
+            }
+        })
+                .takeUntil(LiveStatus::deleted)
+                .map(LiveStatus::toDto);
+    }
+
+    // 시작 이벤트 전에 들어온 요청은 먼저 적재
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    // 기존보다 높은 버전만 반영하고, 라이브 여부가 바뀌었으면 전송
+    // liveIds 는 statuses 와 같은 compute 안에서 갱신해 같은 강의실에 대한 동시 반영이 서로 어긋나지 않도록 함
+    // 반영되었으면 true
+    private boolean apply(Long classId, LiveStatus status, boolean notify) {
+        LiveStatus[] previous = new LiveStatus[1];
+        LiveStatus applied = statuses.compute(classId, (id, current) -> {
+            previous[0] = current;
+            if (current != null && status.version() <= current.version()) {
+                return current;     // 이미 같거나 더 최신 상태
+            }
+            if (status.isActive()) {
+                liveIds.add(id);
+            } else {
+                liveIds.remove(id);
+            }
+            return status;
+        });
+        if (applied != status) {
+            return false;
+        }
+
+        if (!notify || previous[0] == null || previous[0].isActive() == status.isActive()) {
+            return true;
+        }
+        // 같은 강의실의 전송은 잠금 안에서 현재(가장 높은 버전) 상태를 보내 버전 순서를 지킴 - 이미 보낸 버전이면 건너뜀
+        synchronized (notifyLock(classId)) {
+            LiveStatus current = statuses.get(classId);
+            if (current == null || current.version() <= sentVersions.getOrDefault(classId, -1L)) {
+                return true;
+            }
+            sentVersions.put(classId, current.version());
+            send(classId, current);
+        }
+        return true;
+    }
+
+    private Object notifyLock(Long classId) {
+        return notifyLocks[Math.floorMod(classId, notifyLocks.length)];
+    }
+
+    // STOMP 와 SSE 구독자에게 전송 - 강의실의 전송 잠금 안에서 호출
+    private void send(Long classId, LiveStatus status) {
+        template.convertAndSend(String.format(LIVE_TOPIC_FORMAT, classId), status.toDto());
+        synchronized (events) {     // 여러 스레드에서 동시에 emit 하지 않도록 직렬화
+            events.tryEmitNext(new LiveStatusEvent(classId, status));
+        }
+    }
+
+    // 네이티브 쿼리 결과의 BIT/TINYINT 값을 boolean 으로 변환
+    private static boolean toBoolean(Object value) {
+        return value instanceof Boolean bool ? bool : ((Number) value).intValue() != 0;
+    }
+
+    private record LiveStatus(boolean isActive, long version, boolean deleted) {
+
+        // 삭제 알림 - 클라이언트가 이후 도착하는 이전 이벤트를 무시하도록 가장 높은 버전으로 전송
+        private static final LiveStatus DELETED = new LiveStatus(false, Long.MAX_VALUE, true);
+
+        private LiveStatus(boolean isActive, long version) {
+            this(isActive, version, false);
+        }
+
+        private ClassroomLiveStatusDto toDto() {
+            return new ClassroomLiveStatusDto(isActive, version, null, deleted);
+        }
+    }
+
+    private record LiveStatusEvent(Long classId, LiveStatus status) {
+    }
+}
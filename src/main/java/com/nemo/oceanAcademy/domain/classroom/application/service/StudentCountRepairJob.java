@@ -0,0 +1,43 @@
+package com.nemo.oceanAcademy.domain.classroom.application.service;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import io.sentry.Sentry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의실 수강 인원(student_count) 보정 작업.
+ * participants 테이블 기준으로 수강 인원을 다시 계산해, 증감 누락 등으로 생긴 차이를 바로잡습니다.
+ * 강의실 ID 구간(chunk) 단위로 나누어 각각 짧은 트랜잭션으로 처리합니다.
+ * 기존 강의실의 최초 값은 V2StudentCountBackfillMigration 이 한 번 채우므로, 이 작업은 기본적으로 꺼져 있습니다.
+ * 보정이 필요하면 한 서버에만 classroom.student-count.repair-cron 을 설정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentCountRepairJob {
+
+    private final ClassroomRepository classroomRepository;
+
+    // 한 번에 보정할 강의실 ID 구간 크기
+    @Value("${classroom.student-count.repair-chunk-size:1000}")
+    private long chunkSize;
+
+    // 기본값 "-" 는 실행하지 않음 (예: 0 0 4 * * *)
+    @Scheduled(cron = "${classroom.student-count.repair-cron:-}", zone = "Asia/Seoul")
+    public void repair() {
+        try {
+            long maxId = classroomRepository.findMaxId();
+            int updated = 0;
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                updated += classroomRepository.recountStudentCounts(fromId, fromId + chunkSize - 1);
+            }
+            log.info("수강 인원 보정 완료: 강의실 {}개", updated);
+        } catch (Exception e) {
+            log.error("수강 인원 보정 실패", e);
+            Sentry.captureException(e);
+        }
+    }
+}
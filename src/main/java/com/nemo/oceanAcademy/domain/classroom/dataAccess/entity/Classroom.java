@@ -8,6 +8,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -16,7 +17,12 @@ import java.time.ZoneId;
 import java.util.List;
 
 @Entity
-@Table(name = "classrooms")
+@Table(name = "classrooms", indexes = {
+        @Index(name = "idx_classrooms_created_at_id", columnList = "created_at, id"),                    // 목록 keyset 페이지네이션
+        @Index(name = "idx_classrooms_category_created_at_id", columnList = "category_id, created_at, id"), // 카테고리별 목록
+        @Index(name = "idx_classrooms_is_active", columnList = "is_active"),                             // 라이브 상태 재적재
+        @Index(name = "idx_classrooms_updated_at", columnList = "updated_at")                            // 라이브 상태 재적재 (변경분)
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -85,6 +91,22 @@ public class Classroom {
     @Column(nullable = false, name = "is_active")
     private Boolean isActive = false;
 
+    //강의실 수강 인원 - 수강 신청/취소 시 SQL 로 원자적으로 증감하므로 엔티티 UPDATE 에서는 제외
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, name = "student_count", updatable = false)
+    private Long studentCount = 0L;
+
+    //수강 정원, 선택적 설정 (null 이면 제한 없음)
+    @Column(nullable = true)
+    private Integer capacity;
+
+    //낙관적 잠금 버전 - 라이브 전환 등 변경마다 증가
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     //강의실 생성 시각
     @Column(nullable = false, name = "created_at")
     private LocalDateTime createdAt;
@@ -92,6 +114,16 @@ public class Classroom {
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));  // 한국 표준시(KST) 기준으로 생성 시간 설정
+        this.updatedAt = this.createdAt;
+    }
+
+    //강의실 수정 시각 - 정보 수정, 라이브 전환, 수강 인원 변경 시 갱신 (상세 조회 Last-Modified)
+    @Column(nullable = true, name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
     }
 
     //강의실 삭제 시각 - soft delete
@@ -0,0 +1,104 @@
+package com.nemo.oceanAcademy.domain.classroom.dataAccess.migration;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 강의실 수강 인원(student_count) 컬럼 추가 후 participants 기준으로 한 번 채움
+ * 컬럼 추가 직후 기존 강의실은 0 이므로, 정원 확인(reserveSeat)과 목록의 수강 인원이 이 값을 쓰기 전에 실행
+ * Flyway 이력으로 클러스터 전체에서 한 번만 실행되며, 강의실 ID 구간 단위로 나누어 잠금 시간을 짧게 유지
+ * 새 스키마는 테이블이 없으므로 건너뛰고, Hibernate 가 컬럼을 포함해 테이블을 생성
+ */
+@Slf4j
+@Component
+public class V2StudentCountBackfillMigration implements JavaMigration {
+
+    private static final String TABLE = "classrooms";
+    private static final String COLUMN = "student_count";
+    private static final long CHUNK_SIZE = 1000;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("2");
+    }
+
+    @Override
+    public String getDescription() {
+        return "add and backfill classrooms." + COLUMN;
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    // 구간마다 커밋해 수강 신청과 잠금을 오래 겹치지 않도록 트랜잭션 밖에서 실행
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection)) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            if (!columnExists(connection)) {
+                statement.execute("ALTER TABLE classrooms ADD COLUMN " + COLUMN + " BIGINT NOT NULL DEFAULT 0");
+            }
+
+            long maxId;
+            try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM classrooms")) {
+                result.next();
+                maxId = result.getLong(1);
+            }
+
+            int updated = 0;
+            try (PreparedStatement recount = connection.prepareStatement(
+                    "UPDATE classrooms c SET c.student_count = " +
+                    "(SELECT COUNT(*) FROM participants p WHERE p.classroom_id = c.id) " +
+                    "WHERE c.id BETWEEN ? AND ?")) {
+                for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+                    recount.setLong(1, fromId);
+                    recount.setLong(2, fromId + CHUNK_SIZE - 1);
+                    updated += recount.executeUpdate();
+                    if (!connection.getAutoCommit()) {
+                        connection.commit();
+                    }
+                }
+            }
+            log.info("수강 인원 초기화 완료: 강의실 {}개", updated);
+        }
+    }
+
+    private static boolean tableExists(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, identifier(metaData, TABLE), new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    private static boolean columnExists(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, identifier(metaData, TABLE), identifier(metaData, COLUMN))) {
+            return columns.next();
+        }
+    }
+
+    // 메타데이터 조회용 이름 - 대문자로 저장하는 DB(H2 등)에 맞춤
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase() : name;
+    }
+}
@@ -1,42 +1,69 @@
 package com.nemo.oceanAcademy.domain.classroom.dataAccess.repository;
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomLiveStatusDto;
 import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto;
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomRoleDto;
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomVersionDto;
 import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
 import org.springframework.data.domain.Pageable;  // 이 부분을 수정했습니다
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
+
+    // 목록 조회용 스칼라 프로젝션 - 강사만 조인해 한 번의 쿼리로 조회, 카테고리 이름은 CategoryCatalog 에서 채움
+    String LIST_PROJECTION = "SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto(" +
+            "c.id, u.id, c.category.id, u.nickname, c.name, c.object, c.description, c.instructorInfo, " +
+            "c.prerequisite, c.announcement, c.bannerImagePath, c.isActive, ";
+
+    String LIST_FROM = "FROM Classroom c JOIN c.user u ";
+
     boolean existsById(Long id);
 
-    // 라이브 강의 조회
-    @Query("SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto(c) " +
-            "FROM Classroom c WHERE c.isActive = true " +
-            "AND (:categoryId IS NULL OR c.category.id = :categoryId)")
-    List<ClassroomResponseDto> findLiveClassrooms(@Param("categoryId") Integer categoryId, Pageable pageable);
+    // 강의실의 강사인지 확인
+    boolean existsByIdAndUserId(Long id, String userId);
+
+    // 라이브 강의 조회 - 라이브 강의실 ID 는 LiveClassroomRegistry 에서 전달
+    @Query(LIST_PROJECTION + "c.studentCount, c.createdAt) " +
+            LIST_FROM + "WHERE c.id IN :liveIds " +
+            "AND (:categoryId IS NULL OR c.category.id = :categoryId) " +
+            "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ClassroomResponseDto> findLiveClassrooms(@Param("liveIds") Collection<Long> liveIds, @Param("categoryId") Integer categoryId, @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // 수강 중인 강의 조회
-    @Query("SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto(c) " +
-            "FROM Classroom c JOIN c.participants p WHERE p.user.id = :userId " +
-            "AND (:categoryId IS NULL OR c.category.id = :categoryId)")
-    List<ClassroomResponseDto> findEnrolledClassrooms(@Param("categoryId") Integer categoryId, @Param("userId") String userId, Pageable pageable);
+    @Query(LIST_PROJECTION + "c.studentCount, c.createdAt) " +
+            LIST_FROM + "JOIN c.participants p WHERE p.user.id = :userId " +
+            "AND (:categoryId IS NULL OR c.category.id = :categoryId) " +
+            "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ClassroomResponseDto> findEnrolledClassrooms(@Param("categoryId") Integer categoryId, @Param("userId") String userId, @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // 카테고리 필터링만 적용
-    @Query("SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto(c) " +
-            "FROM Classroom c WHERE c.category.id = :categoryId")
-    List<ClassroomResponseDto> findClassroomsByCategoryId(@Param("categoryId") Integer categoryId, Pageable pageable);
+    @Query(LIST_PROJECTION + "c.studentCount, c.createdAt) " +
+            LIST_FROM + "WHERE c.category.id = :categoryId " +
+            "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ClassroomResponseDto> findClassroomsByCategoryId(@Param("categoryId") Integer categoryId, @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // 내가 개설한 강의 조회
-    @Query("SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto(c, COUNT(p)) " +
-            "FROM Classroom c " +
-            "LEFT JOIN Participant p ON c.id = p.classroom.id " +
-            "WHERE c.user.id = :userId " +
+    @Query(LIST_PROJECTION + "c.studentCount, c.createdAt) " +
+            LIST_FROM + "WHERE u.id = :userId " +
             "AND (:categoryId IS NULL OR c.category.id = :categoryId) " +
-            "GROUP BY c.id")
-    List<ClassroomResponseDto> findCreatedClassrooms(@Param("categoryId") Integer categoryId, @Param("userId") String userId, Pageable pageable);
+            "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ClassroomResponseDto> findCreatedClassrooms(@Param("categoryId") Integer categoryId, @Param("userId") String userId, @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // 상위 10개 강의 조회
     /* 현재는 rating 없음
@@ -47,17 +74,13 @@ public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
         List<ClassroomResponseDto> findTopTenClassrooms(@Param("categoryId") Integer categoryId, Pageable pageable);
      */
 
-    // 전체 강의 조회
-    @Query("SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto(c) " +
-            "FROM Classroom c " +
-            "WHERE (:categoryId IS NULL OR c.category.id = :categoryId)")
-    List<ClassroomResponseDto> findAllClassrooms(@Param("categoryId") Integer categoryId, Pageable pageable);
-
-    // 전체 강의실 조회
+    // 전체 강의실 조회 (카테고리 이름은 CategoryCatalog 에서 채움)
     @Query("SELECT c FROM Classroom c " +
             "JOIN FETCH c.user u " +
-            "JOIN FETCH c.category cat")
-    List<Classroom> findAllWithJoins(Pageable pageable);
+            "WHERE (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Classroom> findAllWithJoins(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // 단일 강의실 조회
     @Query("SELECT c FROM Classroom c " +
@@ -66,5 +89,79 @@ public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
             "WHERE c.id = :classId")
     Optional<Classroom> findByIdWithJoins(@Param("classId") Long classId);
 
+    // 전체 강의실의 라이브 여부 (ID, isActive, version)
+    @Query("SELECT c.id, c.isActive, c.version FROM Classroom c")
+    List<Object[]> findAllLiveStatuses();
+
+    // 라이브 중이거나 since 이후 변경된 강의실의 라이브 여부 (ID, isActive, version, 삭제 여부, 카테고리 ID) - 삭제된 강의실도 포함
+    @Query(value = "SELECT id, is_active, version, deleted_at IS NOT NULL, category_id FROM classrooms " +
+            "WHERE is_active = true AND deleted_at IS NULL " +
+            "UNION " +
+            "SELECT id, is_active, version, deleted_at IS NOT NULL, category_id FROM classrooms WHERE updated_at >= :since",
+            nativeQuery = true)
+    List<Object[]> findLiveOrChangedStatuses(@Param("since") LocalDateTime since);
+
+    // 라이브 상태 전환 - 조회 없이 한 번의 UPDATE 로 반전 (행 잠금으로 동시 전환이 유실되지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Classroom c SET c.isActive = CASE WHEN c.isActive = true THEN false ELSE true END, " +
+            "c.version = c.version + 1, c.updatedAt = :now WHERE c.id = :classId")
+    int toggleIsActive(@Param("classId") Long classId, @Param("now") LocalDateTime now);
+
+    // 라이브 상태를 지정한 값으로 설정 - 이미 같은 상태면 변경 없음 (중복 요청에 안전)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Classroom c SET c.isActive = :isActive, c.version = c.version + 1, c.updatedAt = :now " +
+            "WHERE c.id = :classId AND c.isActive <> :isActive")
+    int updateIsActive(@Param("classId") Long classId, @Param("isActive") boolean isActive, @Param("now") LocalDateTime now);
+
+    // 라이브 상태와 버전 조회 (전환 직후 같은 트랜잭션에서 결과 확인)
+    @Query("SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomLiveStatusDto(c.isActive, c.version, c.category.id) " +
+            "FROM Classroom c WHERE c.id = :classId")
+    Optional<ClassroomLiveStatusDto> findLiveStatus(@Param("classId") Long classId);
+
+    // 상세 조회 조건부 요청 판단용 버전 정보 (강사 닉네임은 PK 조인으로 함께 조회)
+    @Query("SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomVersionDto(" +
+            "c.id, c.version, c.studentCount, COALESCE(c.updatedAt, c.createdAt), c.category.id, u.nickname) " +
+            "FROM Classroom c JOIN c.user u WHERE c.id = :classId")
+    Optional<ClassroomVersionDto> findVersion(@Param("classId") Long classId);
+
+    // 강의실과 사용자의 강사/수강생 여부를 한 번에 조회
+    @Query("SELECT new com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomRoleDto(c, " +
+            "CASE WHEN c.user.id = :userId THEN true ELSE false END, " +
+            "CASE WHEN EXISTS (SELECT p.id FROM Participant p WHERE p.classroom.id = c.id AND p.user.id = :userId) " +
+            "THEN true ELSE false END) " +
+            "FROM Classroom c WHERE c.id = :classId")
+    Optional<ClassroomRoleDto> findClassroomRole(@Param("classId") Long classId, @Param("userId") String userId);
+
+    // 수강 신청 좌석 확보 - 정원이 남아 있을 때만 수강 인원 1 증가 (0 이면 정원 초과 또는 없는 강의실)
+    @Modifying
+    @Query("UPDATE Classroom c SET c.studentCount = c.studentCount + 1, c.updatedAt = :now " +
+            "WHERE c.id = :classId AND c.deletedAt IS NULL " +
+            "AND (c.capacity IS NULL OR c.studentCount < c.capacity)")
+    int reserveSeat(@Param("classId") Long classId, @Param("now") LocalDateTime now);
+
+    // 사용자가 강사이거나 수강 중인 강의실 ID - 각각 user_id 인덱스로 조회 후 합침 (캘린더 조회 1단계)
+    @Query("SELECT c.id FROM Classroom c WHERE c.user.id = :userId " +
+            "UNION " +
+            "SELECT p.classroom.id FROM Participant p WHERE p.user.id = :userId")
+    List<Long> findOwnedOrEnrolledClassroomIds(@Param("userId") String userId);
+
+    // 강사의 모든 강의실 수정 시각 갱신 (강사 닉네임 변경 시 상세 조회 Last-Modified 반영)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Classroom c SET c.updatedAt = :now WHERE c.user.id = :userId")
+    int touchByUserId(@Param("userId") String userId, @Param("now") LocalDateTime now);
+
+    // 가장 큰 강의실 ID (수강 인원 보정 범위)
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM classrooms", nativeQuery = true)
+    long findMaxId();
+
+    // ID 구간의 수강 인원을 participants 기준으로 다시 계산 (삭제된 강의실 포함)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE classrooms c SET c.student_count = " +
+            "(SELECT COUNT(*) FROM participants p WHERE p.classroom_id = c.id) " +
+            "WHERE c.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int recountStudentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
 
 }
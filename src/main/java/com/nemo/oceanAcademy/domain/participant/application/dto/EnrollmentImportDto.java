@@ -0,0 +1,25 @@
+package com.nemo.oceanAcademy.domain.participant.application.dto;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 수강 등록 결과 (결과별 건수 + 행별 결과)
+ */
+@Getter
+public class EnrollmentImportDto {
+
+    // 결과별 건수
+    private final Map<EnrollmentImportResultDto.Status, Integer> summary = new EnumMap<>(EnrollmentImportResultDto.Status.class);
+
+    // 입력 순서대로의 행별 결과
+    private final List<EnrollmentImportResultDto> results = new ArrayList<>();
+
+    public void add(String userId, EnrollmentImportResultDto.Status status) {
+        results.add(new EnrollmentImportResultDto(userId, status));
+        summary.merge(status, 1, Integer::sum);
+    }
+}
@@ -0,0 +1,26 @@
+package com.nemo.oceanAcademy.domain.participant.application.dto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 수강 등록의 행별 결과
+ */
+@Getter
+@AllArgsConstructor
+public class EnrollmentImportResultDto {
+
+    // 사용자 ID
+    private String userId;
+
+    // 처리 결과
+    private Status status;
+
+    public enum Status {
+        ENROLLED,           // 등록 완료
+        ALREADY_ENROLLED,   // 이미 수강 중
+        DUPLICATE,          // 요청 안에서 중복된 ID
+        USER_NOT_FOUND,     // 없는 사용자
+        INSTRUCTOR,         // 강의실의 강사 본인
+        CLASSROOM_FULL      // 수강 정원 초과
+    }
+}
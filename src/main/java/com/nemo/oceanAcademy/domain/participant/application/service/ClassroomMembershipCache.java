@@ -0,0 +1,120 @@
+package com.nemo.oceanAcademy.domain.participant.application.service;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.participant.dataAccess.repository.ParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * 강의실(채팅방) 멤버십 캐시.
+ * (강의실 ID, 사용자 ID) 별로 강사 또는 수강생 여부를 보관해 STOMP 프레임마다 DB 를 조회하지 않도록 합니다.
+ * 크기와 TTL 로 제한되며, 수강 신청 시 해당 항목을 무효화합니다.
+ * 수강 신청은 다른 서버에서 처리될 수 있으므로 비회원(false) 결과는 짧게만 보관합니다.
+ * 채팅방 구독(SUBSCRIBE) 시 확인한 결과가 캐시에 남아 이후 메시지 전송은 대부분 DB 조회 없이 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClassroomMembershipCache {
+
+    private final ClassroomRepository classroomRepository;
+    private final ParticipantRepository participantRepository;
+
+    // 캐시에 보관할 최대 (강의실, 사용자) 쌍 수
+    @Value("${chat.membership-cache.maximum-size:100000}")
+    private long maximumSize;
+
+    // 캐시 항목 유지 시간 - 수강 취소, 강의 삭제 등 무효화하지 않는 변경은 이 시간 안에 반영됨
+    @Value("${chat.membership-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 비회원 결과 유지 시간 - 다른 서버에서 수강 신청한 사용자가 이 시간 안에 채팅 권한을 얻음
+    @Value("${chat.membership-cache.negative-ttl-seconds:5}")
+    private long negativeTtlSeconds;
+
+    private LoadingCache<String, Boolean> memberships;
+
+    @PostConstruct
+    public void init() {
+        memberships = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new MembershipExpiry(Duration.ofSeconds(ttlSeconds).toNanos(),
+                        Duration.ofSeconds(negativeTtlSeconds).toNanos()))
+                .build(this::load);
+    }
+
+    /**
+     * 캐시에 있는 멤버십만 확인 (조회하지 않음)
+     * @param classId 강의실 ID (채팅방 ID)
+     * @param userId  사용자 ID
+     * @return Boolean 캐시에 없으면 null
+     */
+    public Boolean getIfPresent(Long classId, String userId) {
+        if (classId == null || userId == null) {
+            return false;
+        }
+        return memberships.getIfPresent(key(classId, userId));
+    }
+
+    /**
+     * 사용자가 강의실의 강사 또는 수강생인지 확인 (논블로킹)
+     * 캐시에 있으면 바로 반환하고, 없으면 JPA 조회를 boundedElastic 스케줄러에서 실행해 호출 스레드(STOMP 채널)를 막지 않음
+     * @param classId 강의실 ID (채팅방 ID)
+     * @param userId  사용자 ID
+     * @return Mono<Boolean> 강사 또는 수강생이면 true
+     */
+    public Mono<Boolean> isMemberAsync(Long classId, String userId) {
+        if (classId == null || userId == null) {
+            return Mono.just(false);
+        }
+        Boolean cached = memberships.getIfPresent(key(classId, userId));
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return Mono.fromCallable(() -> memberships.get(key(classId, userId)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 멤버십이 바뀌었을 때 캐시 항목 제거
+    public void invalidate(Long classId, String userId) {
+        memberships.invalidate(key(classId, userId));
+    }
+
+    private Boolean load(String key) {
+        int separator = key.indexOf(':');
+        Long classId = Long.valueOf(key.substring(0, separator));
+        String userId = key.substring(separator + 1);
+        return classroomRepository.existsByIdAndUserId(classId, userId)
+                || participantRepository.existsByClassroomIdAndUserId(classId, userId);
+    }
+
+    private static String key(Long classId, String userId) {
+        return classId + ":" + userId;
+    }
+
+    // 회원 여부에 따라 유지 시간을 다르게 적용
+    private record MembershipExpiry(long memberNanos, long nonMemberNanos) implements Expiry<String, Boolean> {
+
+        @Override
+        public long expireAfterCreate(String key, Boolean member, long currentTime) {
+            return member ? memberNanos : nonMemberNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Boolean member, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, member, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Boolean member, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.nemo.oceanAcademy.domain.participant.application.service;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.nemo.oceanAcademy.common.exception.ResourceNotFoundException;
+import com.nemo.oceanAcademy.domain.participant.application.dto.EnrollmentImportDto;
+import com.nemo.oceanAcademy.domain.participant.application.dto.EnrollmentImportResultDto.Status;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
+import com.nemo.oceanAcademy.domain.schedule.application.service.ScheduleCalendarCache;
+import io.sentry.Sentry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 일괄 수강 등록 (코호트 온보딩).
+ * CSV 또는 JSON 으로 들어온 사용자 ID 를 스트리밍으로 읽어 chunk 단위로 처리하며, chunk 마다
+ * 사용자/기존 수강생을 IN 조회 한 번씩으로 확인하고 participants 를 JDBC 배치 INSERT 합니다.
+ * 행별 결과는 INSERT 결과 건수(재작성된 배치에서는 SUCCESS_NO_INFO)에 기대지 않고, 중복 키가 나면 chunk 를 다시 확인해서 정합니다.
+ * Participant 는 IDENTITY 키를 유지하므로(MySQL 에는 시퀀스가 없음) Hibernate 대신 JdbcTemplate 배치를 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EnrollmentImportService {
+
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO participants (classroom_id, user_id, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClassroomMembershipCache classroomMembershipCache;
+    private final ScheduleCalendarCache scheduleCalendarCache;
+    private final IcsFeedService icsFeedService;
+
+    // 한 트랜잭션에서 처리할 사용자 ID 수
+    @Value("${enrollment.import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * CSV 입력 처리 - 한 줄에 사용자 ID 하나 (첫 번째 열), 헤더(userId) 줄은 무시
+     * @param classId 강의실 ID
+     * @param input   요청 본문
+     * @return EnrollmentImportDto 결과별 건수와 행별 결과
+     */
+    public EnrollmentImportDto importCsv(Long classId, InputStream input) throws IOException {
+        ImportContext context = new ImportContext(classId, findInstructorId(classId));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String userId = line.split(",", 2)[0].trim();
+                if (userId.isEmpty() || userId.equalsIgnoreCase("userId") || userId.equalsIgnoreCase("user_id")) {
+                    continue;
+                }
+                context.accept(userId);
+            }
+        }
+        return context.finish();
+    }
+
+    /**
+     * JSON 입력 처리 - ["id1", "id2"] 또는 [{"userId": "id1"}, ...] 배열
+     * @param classId 강의실 ID
+     * @param input   요청 본문
+     * @return EnrollmentImportDto 결과별 건수와 행별 결과
+     */
+    public EnrollmentImportDto importJson(Long classId, InputStream input) throws IOException {
+        ImportContext context = new ImportContext(classId, findInstructorId(classId));
+        try (JsonParser parser = new JsonFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("사용자 ID 배열이 필요합니다.");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token == JsonToken.VALUE_STRING) {
+                    context.accept(parser.getText().trim());
+                } else if (token == JsonToken.START_OBJECT) {
+                    readUserIdField(parser, context::accept);
+                } else {
+                    throw new IllegalArgumentException("사용자 ID 형식이 올바르지 않습니다.");
+                }
+            }
+        }
+        return context.finish();
+    }
+
+    private void readUserIdField(JsonParser parser, Consumer<String> consumer) throws IOException {
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("userId".equals(field)) {
+                consumer.accept(parser.getText().trim());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private String findInstructorId(Long classId) {
+        try {
+            return jdbcTemplate.queryForObject(
+                    "SELECT user_id FROM classrooms WHERE id = ? AND deleted_at IS NULL", String.class, classId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의를 찾을 수 없습니다.", "Classroom not found");
+        }
+    }
+
+    /**
+     * chunk 하나를 한 트랜잭션으로 처리 - 그 사이 단건 신청과 겹쳐 중복 키가 나면 롤백 후 다시 확인해서 처리
+     * 중복 키는 다른 신청이 이미 등록한 사용자에서 나므로 다음 시도에서는 ALREADY_ENROLLED 로 빠지고, 시도는 chunk 크기만큼으로 제한
+     */
+    private Map<String, Status> processChunk(Long classId, String instructorId, List<String> userIds) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(tx -> enrollChunk(classId, instructorId, userIds));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt > userIds.size()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 잠금 순서는 단건 신청(ClassroomService.enrollParticipant)과 같게 participants INSERT 후 강의실 행을 잠금
+     * 정원은 잠금 후 다시 확인해, 넘친 만큼은 이 트랜잭션에서 넣은 행을 지우고 CLASSROOM_FULL 로 기록
+     */
+    private Map<String, Status> enrollChunk(Long classId, String instructorId, List<String> userIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("classId", classId)
+                .addValue("userIds", userIds);
+        Set<String> existingUsers = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id IN (:userIds) AND deleted_at IS NULL", params, String.class));
+        Set<String> enrolledUsers = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT user_id FROM participants WHERE classroom_id = :classId AND user_id IN (:userIds)", params, String.class));
+        // 잠그지 않고 읽은 남은 자리 - 넣을 후보를 줄이는 용도이며 최종 확인은 잠금 후
+        long available = availableSeats(jdbcTemplate.queryForMap(
+                "SELECT capacity, student_count FROM classrooms WHERE id = ?", classId));
+
+        Map<String, Status> statuses = new LinkedHashMap<>();
+        List<String> toInsert = new ArrayList<>();
+        for (String userId : userIds) {
+            if (!existingUsers.contains(userId)) {
+                statuses.put(userId, Status.USER_NOT_FOUND);
+            } else if (userId.equals(instructorId)) {
+                statuses.put(userId, Status.INSTRUCTOR);
+            } else if (enrolledUsers.contains(userId)) {
+                statuses.put(userId, Status.ALREADY_ENROLLED);
+            } else if (toInsert.size() >= available) {
+                statuses.put(userId, Status.CLASSROOM_FULL);
+            } else {
+                toInsert.add(userId);
+                statuses.put(userId, Status.ENROLLED);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return statuses;
+        }
+
+        // 동시에 실행되는 일괄 등록끼리 같은 순서로 유니크 키를 잠그도록 정렬해서 INSERT
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        List<String> insertOrder = toInsert.stream().sorted().toList();
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, insertOrder, insertOrder.size(), (ps, userId) -> {
+            ps.setLong(1, classId);
+            ps.setString(2, userId);
+            ps.setTimestamp(3, createdAt);
+        });
+
+        long seats = availableSeats(jdbcTemplate.queryForMap(
+                "SELECT capacity, student_count FROM classrooms WHERE id = ? FOR UPDATE", classId));
+        if (toInsert.size() > seats) {
+            List<String> overflow = toInsert.subList((int) seats, toInsert.size());
+            namedParameterJdbcTemplate.update(
+                    "DELETE FROM participants WHERE classroom_id = :classId AND user_id IN (:userIds)",
+                    new MapSqlParameterSource().addValue("classId", classId).addValue("userIds", overflow));
+            overflow.forEach(userId -> statuses.put(userId, Status.CLASSROOM_FULL));
+        }
+
+        long enrolled = Math.min(toInsert.size(), seats);
+        if (enrolled > 0) {
+            jdbcTemplate.update("UPDATE classrooms SET student_count = student_count + ?, updated_at = ? WHERE id = ?",
+                    enrolled, createdAt, classId);
+        }
+        return statuses;
+    }
+
+    private static long availableSeats(Map<String, Object> seat) {
+        Number capacity = (Number) seat.get("capacity");
+        return capacity == null
+                ? Long.MAX_VALUE
+                : Math.max(0, capacity.longValue() - ((Number) seat.get("student_count")).longValue());
+    }
+
+    // 입력을 chunk 로 모아 처리하고 결과를 입력 순서대로 기록
+    private final class ImportContext {
+        private final Long classId;
+        private final String instructorId;
+        private final Set<String> seen = new HashSet<>();
+        private final List<String> chunk = new ArrayList<>();
+        private final List<String> order = new ArrayList<>();
+        private final Map<String, Status> statuses = new HashMap<>();
+
+        private ImportContext(Long classId, String instructorId) {
+            this.classId = classId;
+            this.instructorId = instructorId;
+        }
+
+        private void accept(String userId) {
+            order.add(userId);
+            if (!seen.add(userId)) {
+                return;     // 중복은 finish 에서 DUPLICATE 로 기록
+            }
+            chunk.add(userId);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                Map<String, Status> result = processChunk(classId, instructorId, List.copyOf(chunk));
+                statuses.putAll(result);
+                List<String> enrolled = new ArrayList<>();
+                result.forEach((userId, status) -> {
+                    if (status == Status.ENROLLED) {
+                        classroomMembershipCache.invalidate(classId, userId);
+                        enrolled.add(userId);
+                    }
+                });
+                scheduleCalendarCache.evictUsers(enrolled);
+                icsFeedService.evictUsers(enrolled);
+            } catch (Exception e) {
+                Sentry.captureException(e);
+                throw e;
+            }
+            chunk.clear();
+        }
+
+        private EnrollmentImportDto finish() {
+            flush();
+            EnrollmentImportDto result = new EnrollmentImportDto();
+            Set<String> reported = new HashSet<>();
+            for (String userId : order) {
+                result.add(userId, reported.add(userId) ? statuses.get(userId) : Status.DUPLICATE);
+            }
+            return result;
+        }
+    }
+}
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name = "participants")
+@Table(name = "participants", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_participants_classroom_user", columnNames = {"classroom_id", "user_id"})  // 중복 수강 신청 방지
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,80 @@
+package com.nemo.oceanAcademy.domain.participant.dataAccess.migration;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 수강생 중복 제거 후 (classroom_id, user_id) 유니크 키 추가
+ * 유니크 키 이전에 동시 신청으로 쌓인 중복 행이 있으면 키 추가가 실패하므로, 가장 먼저 등록된 행만 남기고 삭제
+ * 새 스키마는 테이블이 없으므로 건너뛰고, Hibernate 가 유니크 키를 포함해 테이블을 생성
+ */
+@Slf4j
+@Component
+public class V1ParticipantUniqueKeyMigration implements JavaMigration {
+
+    private static final String TABLE = "participants";
+    private static final String UNIQUE_KEY = "uk_participants_classroom_user";
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("1");
+    }
+
+    @Override
+    public String getDescription() {
+        return "dedupe participants and add " + UNIQUE_KEY;
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection)) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            int removed = statement.executeUpdate(
+                    "DELETE p1 FROM participants p1 " +
+                    "JOIN participants p2 ON p1.classroom_id = p2.classroom_id AND p1.user_id = p2.user_id AND p1.id > p2.id");
+            log.info("중복 수강생 {}건 삭제", removed);
+
+            if (!uniqueKeyExists(connection)) {
+                statement.execute("ALTER TABLE participants ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (classroom_id, user_id)");
+            }
+        }
+    }
+
+    private static boolean tableExists(Connection connection) throws SQLException {
+        try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, TABLE, new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    private static boolean uniqueKeyExists(Connection connection) throws SQLException {
+        try (ResultSet indexes = connection.getMetaData().getIndexInfo(connection.getCatalog(), null, TABLE, true, false)) {
+            while (indexes.next()) {
+                if (UNIQUE_KEY.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
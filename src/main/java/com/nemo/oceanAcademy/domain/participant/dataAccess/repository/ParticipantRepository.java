@@ -14,4 +14,8 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     // classroom_id로 수강생 목록 조회
     @Query("SELECT p FROM Participant p WHERE p.classroom.id = :classroomId")
     List<Participant> findParticipantsByClassroomId(@Param("classroomId") Long classroomId);
+
+    // classroom_id로 수강생 ID 목록 조회
+    @Query("SELECT p.user.id FROM Participant p WHERE p.classroom.id = :classroomId")
+    List<String> findUserIdsByClassroomId(@Param("classroomId") Long classroomId);
 }
@@ -0,0 +1,71 @@
+package com.nemo.oceanAcademy.domain.schedule.application.controller;
+import com.nemo.oceanAcademy.common.exception.UnauthorizedException;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
+import io.sentry.Sentry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * IcsFeedController는 캘린더 앱 구독용 iCalendar(.ics) 피드를 제공합니다.
+ * 캘린더 앱은 인증 헤더를 보낼 수 없으므로 URL 의 token(주소를 발급받은 사용자의 서명)으로 접근을 확인합니다.
+ */
+@RestController
+@RequestMapping("/api/ics")
+@RequiredArgsConstructor
+public class IcsFeedController {
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final IcsFeedService icsFeedService;
+
+    /**
+     * 강의실 일정 피드
+     * @param classId 강의실 ID
+     * @param user 피드 주소를 발급받은 사용자 ID
+     * @param token 피드 URL 토큰
+     * @param webRequest If-None-Match 확인용
+     * @return ResponseEntity<byte[]> .ics 본문, 변경이 없으면 304
+     */
+    @GetMapping("/classes/{classId}")
+    public ResponseEntity<byte[]> getClassroomFeed(@PathVariable Long classId, @RequestParam String user, @RequestParam String token,
+                                                   WebRequest webRequest) {
+        verifyToken("classes", String.valueOf(classId), user, token);
+        return toResponse(icsFeedService.getClassroomFeed(classId), webRequest);
+    }
+
+    /**
+     * 사용자 일정 피드 - 강사이거나 수강 중인 모든 강의실
+     * @param userId 사용자 ID
+     * @param token 피드 URL 토큰
+     * @param webRequest If-None-Match 확인용
+     * @return ResponseEntity<byte[]> .ics 본문, 변경이 없으면 304
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<byte[]> getUserFeed(@PathVariable String userId, @RequestParam String token, WebRequest webRequest) {
+        verifyToken("users", userId, userId, token);
+        return toResponse(icsFeedService.getUserFeed(userId), webRequest);
+    }
+
+    private void verifyToken(String type, String id, String userId, String token) {
+        if (!icsFeedService.isValidToken(type, id, userId, token)) {
+            UnauthorizedException exception = new UnauthorizedException("유효하지 않은 피드 주소입니다.", "Invalid feed token");
+            Sentry.captureException(exception);
+            throw exception;
+        }
+    }
+
+    private ResponseEntity<byte[]> toResponse(IcsFeedService.Feed feed, WebRequest webRequest) {
+        if (webRequest.checkNotModified(feed.etag())) {
+            return null;    // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(feed.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(feed.body());
+    }
+}
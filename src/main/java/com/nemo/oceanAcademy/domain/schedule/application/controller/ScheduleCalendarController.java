@@ -0,0 +1,90 @@
+package com.nemo.oceanAcademy.domain.schedule.application.controller;
+import com.nemo.oceanAcademy.common.exception.UnauthorizedException;
+import com.nemo.oceanAcademy.common.response.ApiResponse;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleCalendarDto;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
+import com.nemo.oceanAcademy.domain.schedule.application.service.ScheduleService;
+import io.sentry.Sentry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ScheduleCalendarController는 사용자의 전체 강의 일정(내 캘린더) API를 처리합니다.
+ */
+@RestController
+@RequestMapping("/api/users/calendar")
+@RequiredArgsConstructor
+public class ScheduleCalendarController {
+
+    private final ScheduleService scheduleService;
+    private final IcsFeedService icsFeedService;
+
+    /**
+     * 공통 사용자 인증 처리 메서드 - request에서 userId를 추출해 인증된 사용자 ID를 반환
+     * @param request HttpServletRequest 객체로부터 userId 추출
+     * @return userId 인증된 사용자 ID
+     * @throws UnauthorizedException 사용자 ID가 없을 경우 예외 발생
+     */
+    private String getAuthenticatedUserId(HttpServletRequest request) {
+        String userId = (String) request.getAttribute("userId");
+        if (userId == null) {
+            UnauthorizedException exception = new UnauthorizedException(
+                "사용자 인증에 실패했습니다. (토큰 없음)",
+                "Unauthorized request: userId not found"
+            );
+            Sentry.captureException(exception);
+            throw exception;
+        }
+        return userId;
+    }
+
+    /**
+     * 내 캘린더 조회 - 수강 중이거나 개설한 모든 강의실의 기간 내 일정
+     * @param request 인증된 사용자 정보 포함 요청 객체
+     * @param from 조회 시작 날짜 (포함)
+     * @param to 조회 종료 날짜 (포함)
+     * @return ResponseEntity<Map<String, Object>> 날짜, 시작 시각 순 일정 목록
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getCalendar(HttpServletRequest request,
+                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        String userId = getAuthenticatedUserId(request);
+        List<ScheduleCalendarDto> schedules = scheduleService.getCalendar(userId, from, to);
+        return ApiResponse.success("캘린더 조회 성공", "Calendar retrieved successfully", schedules);
+    }
+
+    /**
+     * 내 캘린더 구독(.ics) 주소 조회
+     * @param request 인증된 사용자 정보 포함 요청 객체
+     * @return ResponseEntity<Map<String, Object>> 토큰이 포함된 피드 주소
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<Map<String, Object>> getFeedUrl(HttpServletRequest request) {
+        String userId = getAuthenticatedUserId(request);
+        return ApiResponse.success("캘린더 구독 주소 조회 성공", "Feed URL retrieved successfully", Map.of("url", feedUrl(userId)));
+    }
+
+    /**
+     * 캘린더 구독(.ics) 주소 재발급 - 이전에 발급한 내 캘린더, 강의 일정 피드 주소가 모두 무효화됨
+     * @param request 인증된 사용자 정보 포함 요청 객체
+     * @return ResponseEntity<Map<String, Object>> 새 토큰이 포함된 피드 주소
+     */
+    @PostMapping("/feed/reset")
+    public ResponseEntity<Map<String, Object>> resetFeedUrl(HttpServletRequest request) {
+        String userId = getAuthenticatedUserId(request);
+        icsFeedService.revokeTokens(userId);
+        return ApiResponse.success("캘린더 구독 주소 재발급 성공", "Feed URL reset successfully", Map.of("url", feedUrl(userId)));
+    }
+
+    private String feedUrl(String userId) {
+        return "/api/ics/users/" + userId + "?token=" + icsFeedService.createToken("users", userId, userId);
+    }
+}
@@ -3,14 +3,21 @@ import com.nemo.oceanAcademy.common.exception.RoleUnauthorizedException;
 import com.nemo.oceanAcademy.common.exception.UnauthorizedException;
 import com.nemo.oceanAcademy.common.response.ApiResponse;
 import com.nemo.oceanAcademy.domain.classroom.application.service.ClassroomService;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.FreeSlotDto;
 import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleDto;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleRecurrenceDto;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
 import com.nemo.oceanAcademy.domain.schedule.application.service.ScheduleService;
 import io.sentry.Sentry;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +32,7 @@ public class ScheduleController {
 
     private final ScheduleService scheduleService;
     private final ClassroomService classroomService;
+    private final IcsFeedService icsFeedService;
 
     /**
      * 공통 사용자 인증 처리 메서드 - request에서 userId를 추출해 인증된 사용자 ID를 반환
@@ -67,6 +75,28 @@ public class ScheduleController {
         return ApiResponse.success("강의 일정 목록 조회 성공", "Schedules retrieved successfully", schedules);
     }
 
+    /**
+     * 강의 일정 구독(.ics) 주소 조회
+     * @param classId 강의 ID
+     * @param request 인증된 사용자 정보 포함 요청 객체
+     * @return ResponseEntity<Map<String, Object>> 토큰이 포함된 피드 주소
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<Map<String, Object>> getFeedUrl(HttpServletRequest request, @PathVariable Long classId) {
+        String userId = getAuthenticatedUserId(request);
+        String role = classroomService.getUserRoleInClassroom(classId, userId);
+
+        if (role.equals("관계없음")) {
+            RoleUnauthorizedException exception = new RoleUnauthorizedException("해당 강의에 접근 권한이 없습니다.", "Access denied");
+            Sentry.captureException(exception);
+            throw exception;
+        }
+
+        String token = icsFeedService.createToken("classes", String.valueOf(classId), userId);
+        String url = "/api/ics/classes/" + classId + "?user=" + userId + "&token=" + token;
+        return ApiResponse.success("강의 일정 구독 주소 조회 성공", "Feed URL retrieved successfully", Map.of("url", url));
+    }
+
     /**
      * 강의 일정 생성
      * @param classId 강의 ID
@@ -90,6 +120,60 @@ public class ScheduleController {
         return ApiResponse.success("강의 일정 생성 성공", "Schedule created successfully", createdSchedule);
     }
 
+    /**
+     * 반복 강의 일정 생성
+     * @param classId 강의 ID
+     * @param recurrence 반복 규칙 (요일, 시간, 기간, 제외 날짜)
+     * @param request 인증된 사용자 정보 포함 요청 객체
+     * @return ResponseEntity<Map<String, Object>> 생성된 강의 일정 목록
+     */
+    @PostMapping("/recurring")
+    public ResponseEntity<Map<String, Object>> createRecurringSchedules(HttpServletRequest request, @PathVariable Long classId,
+                                                                        @Valid @RequestBody ScheduleRecurrenceDto recurrence) {
+        String userId = getAuthenticatedUserId(request);
+        String role = classroomService.getUserRoleInClassroom(classId, userId);
+
+        // 강사만 접근 가능
+        if (!role.equals("강사")) {
+            RoleUnauthorizedException exception = new RoleUnauthorizedException("해당 강의에 접근 권한이 없습니다.", "Access denied");
+            Sentry.captureException(exception);
+            throw exception;
+        }
+        List<ScheduleDto> createdSchedules = scheduleService.createRecurringSchedules(classId, recurrence, userId);
+        return ApiResponse.success("반복 강의 일정 생성 성공", "Recurring schedules created successfully", createdSchedules);
+    }
+
+    /**
+     * 강사의 빈 시간대 조회 - 강사가 개설한 모든 강의실의 일정을 기준으로 계산
+     * @param classId 강의 ID
+     * @param from 조회 시작 날짜 (포함)
+     * @param to 조회 종료 날짜 (포함)
+     * @param dayStart 하루 중 검색 시작 시각
+     * @param dayEnd 하루 중 검색 종료 시각
+     * @param duration 최소 길이(분)
+     * @param request 인증된 사용자 정보 포함 요청 객체
+     * @return ResponseEntity<Map<String, Object>> 빈 시간대 목록
+     */
+    @GetMapping("/free-slots")
+    public ResponseEntity<Map<String, Object>> getFreeSlots(HttpServletRequest request, @PathVariable Long classId,
+                                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                            @RequestParam(defaultValue = "09:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime dayStart,
+                                                            @RequestParam(defaultValue = "22:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime dayEnd,
+                                                            @RequestParam(defaultValue = "60") int duration) {
+        String userId = getAuthenticatedUserId(request);
+        String role = classroomService.getUserRoleInClassroom(classId, userId);
+
+        // 강사만 접근 가능
+        if (!role.equals("강사")) {
+            RoleUnauthorizedException exception = new RoleUnauthorizedException("해당 강의에 접근 권한이 없습니다.", "Access denied");
+            Sentry.captureException(exception);
+            throw exception;
+        }
+        List<FreeSlotDto> freeSlots = scheduleService.getFreeSlots(userId, from, to, dayStart, dayEnd, duration);
+        return ApiResponse.success("빈 시간대 조회 성공", "Free slots retrieved successfully", freeSlots);
+    }
+
     /**
      * 강의 일정 삭제
      * @param classId 강의 ID
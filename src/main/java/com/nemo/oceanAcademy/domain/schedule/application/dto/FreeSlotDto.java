@@ -0,0 +1,17 @@
+package com.nemo.oceanAcademy.domain.schedule.application.dto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 강사의 빈 시간대
+ */
+@Getter
+@AllArgsConstructor
+public class FreeSlotDto {
+    private LocalDate date;        // 날짜
+    private LocalTime startTime;   // 빈 시간 시작 시각
+    private LocalTime endTime;     // 빈 시간 종료 시각
+}
@@ -0,0 +1,23 @@
+package com.nemo.oceanAcademy.domain.schedule.application.dto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 내 캘린더 일정 - 강의실 이름이 포함된 일정
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleCalendarDto {
+    private Long id;               // PK 일정 아이디
+    private Long classId;          // FK 강의실 아이디
+    private String className;      // 강의실 이름
+    private String content;        // 강의 일정 내용
+    private LocalDate date;        // 강의 일정 날짜
+    private LocalTime startTime;   // 강의 시작 시각
+    private LocalTime endTime;     // 강의 종료 시각
+}
@@ -0,0 +1,43 @@
+package com.nemo.oceanAcademy.domain.schedule.application.dto;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 반복 일정 생성 규칙 - startDate ~ endDate 사이의 daysOfWeek 요일마다 일정 생성 (excludedDates 제외)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleRecurrenceDto {
+
+    @NotNull
+    @Size(min = 1, max = 500)
+    private String content;             // 강의 일정 내용
+
+    @NotEmpty
+    private Set<DayOfWeek> daysOfWeek;  // 반복 요일 (MONDAY, WEDNESDAY, ...)
+
+    @NotNull
+    private LocalTime startTime;        // 강의 시작 시각
+
+    @NotNull
+    private LocalTime endTime;          // 강의 종료 시각
+
+    @NotNull
+    private LocalDate startDate;        // 반복 시작 날짜 (포함)
+
+    @NotNull
+    private LocalDate endDate;          // 반복 종료 날짜 (포함)
+
+    private Set<LocalDate> excludedDates = new HashSet<>();    // 제외할 날짜 (휴강일 등)
+}
@@ -0,0 +1,248 @@
+package com.nemo.oceanAcademy.domain.schedule.application.service;
+import com.nemo.oceanAcademy.common.cache.GroupedCache;
+import com.nemo.oceanAcademy.common.exception.ResourceNotFoundException;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleCalendarDto;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 강의 일정 iCalendar(.ics) 구독 피드.
+ * 강의실별, 사용자별 피드를 직렬화된 바이트와 강한 ETag 로 메모리에 보관하고, 일정 생성/삭제나 수강 등록 시 영향을 받는 피드만 제거해
+ * 다음 요청에서 다시 만듭니다. 캘린더 앱은 인증 헤더를 보낼 수 없으므로 피드 URL 에는 발급받은 사용자의 HMAC 토큰이 포함됩니다.
+ * 토큰에는 사용자별 토큰 버전이 들어가므로, 버전을 올리면(revokeTokens) 그 사용자에게 발급한 피드 주소가 모두 무효화됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class IcsFeedService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final String CRLF = "\r\n";
+
+    private final ScheduleRepository scheduleRepository;
+    private final ClassroomRepository classroomRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 피드 URL 토큰 서명 키 - JWT 서명 키(secret.key)와 분리
+    @Value("${schedule.ics.secret}")
+    private String secret;
+
+    // 캐시에 보관할 최대 피드 수
+    @Value("${schedule.ics.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    // 피드 유지 시간 - 사용자 피드의 조회 기간(오늘 기준)이 이 시간 안에 갱신됨
+    @Value("${schedule.ics.cache.ttl-minutes:360}")
+    private long ttlMinutes;
+
+    // 사용자 피드에 포함할 지난 일정 기간(일)
+    @Value("${schedule.ics.user.past-days:90}")
+    private long pastDays;
+
+    // 사용자 피드에 포함할 앞으로의 일정 기간(일)
+    @Value("${schedule.ics.user.future-days:365}")
+    private long futureDays;
+
+    // 피드마다 하나의 그룹 - 무효화는 피드 단위로 O(1)
+    private GroupedCache<FeedKey, FeedKey, Feed> feeds;
+
+    @PostConstruct
+    public void init() {
+        feeds = new GroupedCache<>("icsFeeds", maximumSize, 1, Duration.ofMinutes(ttlMinutes), meterRegistry);
+    }
+
+    /**
+     * 강의실 피드 - 캐시에 있으면 DB 조회 없이 반환
+     * @param classId 강의실 ID
+     * @return Feed 직렬화된 피드와 ETag
+     */
+    public Feed getClassroomFeed(Long classId) {
+        return get(new FeedKey("classes", String.valueOf(classId)), () -> {
+            Classroom classroom = classroomRepository.findById(classId)
+                    .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의실을 찾을 수 없습니다.", "Classroom not found"));
+            List<ScheduleCalendarDto> schedules = scheduleRepository.findSchedulesByClassroomId(classId).stream()
+                    .map(schedule -> new ScheduleCalendarDto(schedule.getId(), classId, classroom.getName(),
+                            schedule.getContent(), schedule.getDate(), schedule.getStartTime(), schedule.getEndTime()))
+                    .toList();
+            return render(classroom.getName(), schedules);
+        });
+    }
+
+    /**
+     * 사용자 피드 - 강사이거나 수강 중인 모든 강의실의 일정
+     * @param userId 사용자 ID
+     * @return Feed 직렬화된 피드와 ETag
+     */
+    public Feed getUserFeed(String userId) {
+        return get(new FeedKey("users", userId), () -> {
+            LocalDate today = LocalDate.now(ZONE);
+            List<Long> classroomIds = classroomRepository.findOwnedOrEnrolledClassroomIds(userId);
+            return render("Ocean Academy", classroomIds.isEmpty() ? List.of() : scheduleRepository.findCalendarSchedules(
+                    classroomIds, today.minusDays(pastDays), today.plusDays(futureDays)));
+        });
+    }
+
+    // 강의실 피드 제거
+    public void evictClassroom(Long classId) {
+        feeds.invalidate(new FeedKey("classes", String.valueOf(classId)));
+    }
+
+    // 사용자 피드 제거 - 사용자마다 O(1), 전역 잠금 없음
+    public void evictUsers(Collection<String> userIds) {
+        for (String userId : userIds) {
+            feeds.invalidate(new FeedKey("users", userId));
+        }
+    }
+
+    /**
+     * 피드 URL 토큰 - HMAC-SHA256(type:id:userId:토큰 버전)
+     * @param type   피드 종류 (classes, users)
+     * @param id     강의실 ID 또는 사용자 ID
+     * @param userId 토큰을 발급받는 사용자 ID
+     * @return String base64url 토큰
+     */
+    public String createToken(String type, String id, String userId) {
+        int version = userRepository.findIcsTokenVersionById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + userId + ")의 사용자를 찾을 수 없습니다.", "User not found"));
+        return sign(type, id, userId, version);
+    }
+
+    // 토큰 검증 (상수 시간 비교) - 탈퇴한 사용자나 이전 버전의 토큰은 무효
+    public boolean isValidToken(String type, String id, String userId, String token) {
+        if (token == null) {
+            return false;
+        }
+        return userRepository.findIcsTokenVersionById(userId)
+                .map(version -> MessageDigest.isEqual(sign(type, id, userId, version).getBytes(StandardCharsets.US_ASCII),
+                        token.getBytes(StandardCharsets.US_ASCII)))
+                .orElse(false);
+    }
+
+    // 사용자에게 발급한 모든 피드 주소 무효화 (유출된 주소 폐기)
+    public void revokeTokens(String userId) {
+        if (userRepository.incrementIcsTokenVersion(userId) == 0) {
+            throw new ResourceNotFoundException("해당하는 ID(" + userId + ")의 사용자를 찾을 수 없습니다.", "User not found");
+        }
+    }
+
+    private String sign(String type, String id, String userId, int version) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] signature = mac.doFinal((type + ":" + id + ":" + userId + ":" + version).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("피드 토큰 생성 실패", e);
+        }
+    }
+
+    private Feed get(FeedKey key, Supplier<Feed> loader) {
+        return feeds.get(key, key, loader);
+    }
+
+    // RFC 5545 형식으로 직렬화 - 일정이 같으면 같은 바이트(같은 ETag)가 나오도록 생성 시각을 넣지 않음
+    private Feed render(String calendarName, List<ScheduleCalendarDto> schedules) {
+        StringBuilder ics = new StringBuilder();
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//Ocean Academy//Schedule//KO");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "METHOD:PUBLISH");
+        line(ics, "X-WR-CALNAME:" + escape(calendarName));
+        line(ics, "X-WR-TIMEZONE:" + ZONE.getId());
+        line(ics, "BEGIN:VTIMEZONE");
+        line(ics, "TZID:" + ZONE.getId());
+        line(ics, "BEGIN:STANDARD");
+        line(ics, "DTSTART:19700101T000000");
+        line(ics, "TZOFFSETFROM:+0900");
+        line(ics, "TZOFFSETTO:+0900");
+        line(ics, "TZNAME:KST");
+        line(ics, "END:STANDARD");
+        line(ics, "END:VTIMEZONE");
+        for (ScheduleCalendarDto schedule : schedules) {
+            LocalDateTime start = LocalDateTime.of(schedule.getDate(), schedule.getStartTime());
+            LocalDateTime end = LocalDateTime.of(schedule.getDate(), schedule.getEndTime());
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:schedule-" + schedule.getId() + "@oceanacademy");
+            line(ics, "DTSTAMP:" + start.atZone(ZONE).withZoneSameInstant(ZoneOffset.UTC).format(UTC_DATE_TIME));
+            line(ics, "DTSTART;TZID=" + ZONE.getId() + ":" + start.format(LOCAL_DATE_TIME));
+            line(ics, "DTEND;TZID=" + ZONE.getId() + ":" + end.format(LOCAL_DATE_TIME));
+            line(ics, "SUMMARY:" + escape(schedule.getClassName()));
+            line(ics, "DESCRIPTION:" + escape(schedule.getContent()));
+            line(ics, "END:VEVENT");
+        }
+        line(ics, "END:VCALENDAR");
+
+        byte[] body = ics.toString().getBytes(StandardCharsets.UTF_8);
+        return new Feed(body, "\"" + sha256(body) + "\"");
+    }
+
+    // 한 줄을 75 옥텟 단위로 접어서 추가 (UTF-8 문자 중간에서 자르지 않음)
+    private void line(StringBuilder ics, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int length = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + length > 75) {
+                ics.append(CRLF).append(' ');
+                octets = 1;
+            }
+            ics.appendCodePoint(codePoint);
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        ics.append(CRLF);
+    }
+
+    private String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    private String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record FeedKey(String type, String id) {
+    }
+
+    // 직렬화된 피드와 ETag
+    public record Feed(byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.nemo.oceanAcademy.domain.schedule.application.service;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.nemo.oceanAcademy.common.exception.ScheduleConflictException;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.FreeSlotDto;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleDto;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.entity.Schedule;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 강사별 일정 구간 인덱스.
+ * 강사가 개설한 모든 강의실의 일정을 시작 시각 순 TreeMap 으로 처음 조회할 때 불러오고, 일정 생성/삭제 시 함께 갱신합니다.
+ * 가장 긴 일정 길이를 함께 관리하므로, 겹침 검사는 [시작 - 최대 길이, 종료) 범위만 보면 되어 O(log n + k) 입니다.
+ * 인덱스 읽기/변경은 Caffeine asMap().compute 안에서 강사 키 단위로 직렬화됩니다.
+ * 인덱스는 빠른 사전 검사일 뿐이며, 최종 겹침 검사는 저장 트랜잭션에서 강사 행과 일정을 잠그고 DB 기준으로 수행하므로 서버가 여러 대여도 원자적입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InstructorScheduleIndex {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 인덱스를 보관할 최대 강사 수
+    @Value("${schedule.instructor-index.maximum-size:5000}")
+    private long maximumSize;
+
+    // 사용하지 않는 강사 인덱스를 내리는 시간
+    @Value("${schedule.instructor-index.expire-after-access-minutes:30}")
+    private long expireAfterAccessMinutes;
+
+    private Cache<String, InstructorSchedules> indexes;
+
+    @PostConstruct
+    public void init() {
+        indexes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    /**
+     * 일정들이 강사의 기존 일정 및 서로와 겹치지 않는지 확인한 뒤 writer 로 저장하고 인덱스에 추가
+     * 1. 인덱스로 사전 검사 (DB 잠금 없이 대부분의 겹침을 거절)
+     * 2. 한 트랜잭션에서 강사 행을 잠그고 (SELECT ... FOR UPDATE) 기간 내 일정을 잠금 조회해 다시 검사한 뒤 writer 실행
+     * 3. 커밋 후 인덱스에 반영
+     * @param instructorId 강사 ID
+     * @param candidates   저장할 일정
+     * @param writer       DB 저장 - 저장된 일정(ID 포함)을 반환 (호출자의 트랜잭션에 참여)
+     * @return List<ScheduleDto> 저장된 일정
+     * @throws ScheduleConflictException 겹치는 일정이 있는 경우
+     */
+    public List<ScheduleDto> addWithoutConflict(String instructorId, List<ScheduleDto> candidates,
+                                                Supplier<List<ScheduleDto>> writer) {
+        withSchedules(instructorId, schedules -> {
+            checkConflicts(schedules, candidates);
+            return null;
+        });
+
+        LocalDate from = candidates.stream().map(ScheduleDto::getDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = candidates.stream().map(ScheduleDto::getDate).max(LocalDate::compareTo).orElseThrow();
+        List<ScheduleDto> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                userRepository.findByIdForUpdate(instructorId);     // 같은 강사의 일정 저장은 서버 간에도 순서대로 실행
+                InstructorSchedules existing = new InstructorSchedules();
+                scheduleRepository.findInstructorSchedulesForUpdate(instructorId, from, to)
+                        .forEach(schedule -> existing.add(Slot.of(schedule)));
+                checkConflicts(existing, candidates);
+                return writer.get();
+            });
+        } catch (ScheduleConflictException e) {
+            indexes.invalidate(instructorId);   // 다른 서버의 일정이 반영되지 않은 인덱스 - 다음 조회 시 다시 적재
+            throw e;
+        }
+
+        // 불러온 인덱스가 없으면 다음 조회 시 DB 에서 적재하므로 무시
+        indexes.asMap().computeIfPresent(instructorId, (key, schedules) -> {
+            saved.forEach(schedule -> schedules.add(Slot.of(schedule)));
+            return schedules;
+        });
+        return saved;
+    }
+
+    // 삭제된 일정을 인덱스에서 제거 (불러온 인덱스가 없으면 무시)
+    public void remove(String instructorId, Long scheduleId) {
+        indexes.asMap().computeIfPresent(instructorId, (key, schedules) -> {
+            schedules.remove(scheduleId);
+            return schedules;
+        });
+    }
+
+    // 강사 인덱스 제거 - 강의실 삭제처럼 일정이 한꺼번에 바뀐 경우
+    public void evict(String instructorId) {
+        indexes.invalidate(instructorId);
+    }
+
+    /**
+     * 기간 내 매일 [dayStart, dayEnd) 시간대에서 일정이 없는 구간 중 duration 이상인 구간
+     * @param instructorId 강사 ID
+     * @param from         시작 날짜 (포함)
+     * @param to           종료 날짜 (포함)
+     * @param dayStart     하루 중 검색 시작 시각
+     * @param dayEnd       하루 중 검색 종료 시각
+     * @param duration     최소 길이
+     * @return List<FreeSlotDto> 날짜, 시각 순 빈 시간대
+     */
+    public List<FreeSlotDto> findFreeSlots(String instructorId, LocalDate from, LocalDate to,
+                                           LocalTime dayStart, LocalTime dayEnd, Duration duration) {
+        return withSchedules(instructorId, schedules -> {
+            List<FreeSlotDto> freeSlots = new ArrayList<>();
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                long windowStart = Slot.toEpochSecond(date, dayStart);
+                long windowEnd = Slot.toEpochSecond(date, dayEnd);
+                long cursor = windowStart;
+                for (Slot busy : schedules.overlapping(windowStart, windowEnd)) {
+                    if (busy.start - cursor >= duration.getSeconds()) {
+                        freeSlots.add(toFreeSlot(date, cursor, busy.start));
+                    }
+                    cursor = Math.max(cursor, busy.end);
+                }
+                if (windowEnd - cursor >= duration.getSeconds()) {
+                    freeSlots.add(toFreeSlot(date, cursor, windowEnd));
+                }
+            }
+            return freeSlots;
+        });
+    }
+
+    // 강사 인덱스를 키 단위로 직렬화해 읽기 - 없으면 DB 에서 적재
+    private <T> T withSchedules(String instructorId, Function<InstructorSchedules, T> action) {
+        AtomicReference<T> result = new AtomicReference<>();
+        indexes.asMap().compute(instructorId, (key, schedules) -> {
+            InstructorSchedules current = schedules != null ? schedules : load(key);
+            result.set(action.apply(current));
+            return current;
+        });
+        return result.get();
+    }
+
+    // 후보 일정이 기존 일정 및 서로와 겹치면 예외
+    private static void checkConflicts(InstructorSchedules schedules, List<ScheduleDto> candidates) {
+        InstructorSchedules pending = new InstructorSchedules();
+        for (ScheduleDto candidate : candidates) {
+            Slot slot = Slot.of(candidate);
+            Slot conflict = schedules.findOverlap(slot.start, slot.end);
+            if (conflict == null) {
+                conflict = pending.findOverlap(slot.start, slot.end);
+            }
+            if (conflict != null) {
+                throw new ScheduleConflictException(
+                        candidate.getDate() + " " + candidate.getStartTime() + "~" + candidate.getEndTime()
+                                + " 일정이 기존 일정(강의실 " + conflict.classId + ")과 겹칩니다.",
+                        "Schedule overlaps an existing schedule");
+            }
+            pending.add(slot);
+        }
+    }
+
+    private FreeSlotDto toFreeSlot(LocalDate date, long start, long end) {
+        long dayBase = date.toEpochDay() * SECONDS_PER_DAY;
+        return new FreeSlotDto(date, LocalTime.ofSecondOfDay(start - dayBase), LocalTime.ofSecondOfDay(end - dayBase));
+    }
+
+    private InstructorSchedules load(String instructorId) {
+        InstructorSchedules schedules = new InstructorSchedules();
+        scheduleRepository.findSchedulesByInstructorId(instructorId)
+                .forEach(schedule -> schedules.add(Slot.of(schedule)));
+        return schedules;
+    }
+
+    // 강사 한 명의 일정 - 시작 시각 순 정렬 + ID 별 조회
+    private static final class InstructorSchedules {
+        private final NavigableMap<Long, List<Slot>> byStart = new TreeMap<>();
+        private final Map<Long, Slot> byId = new HashMap<>();
+
+        // 가장 긴 일정 길이 - 이보다 먼저 시작한 일정은 조회 범위와 겹칠 수 없음
+        private long maxLength;
+
+        private void add(Slot slot) {
+            if (slot.id != null && byId.containsKey(slot.id)) {
+                return;     // 적재와 저장 반영이 겹친 경우
+            }
+            byStart.computeIfAbsent(slot.start, key -> new ArrayList<>()).add(slot);
+            if (slot.id != null) {
+                byId.put(slot.id, slot);
+            }
+            maxLength = Math.max(maxLength, slot.end - slot.start);
+        }
+
+        private void remove(Long scheduleId) {
+            Slot slot = byId.remove(scheduleId);
+            if (slot == null) {
+                return;
+            }
+            List<Slot> sameStart = byStart.get(slot.start);
+            sameStart.remove(slot);
+            if (sameStart.isEmpty()) {
+                byStart.remove(slot.start);
+            }
+        }
+
+        // [start, end) 와 겹치는 첫 일정
+        private Slot findOverlap(long start, long end) {
+            for (List<Slot> sameStart : byStart.subMap(start - maxLength, false, end, false).values()) {
+                for (Slot slot : sameStart) {
+                    if (slot.end > start) {
+                        return slot;
+                    }
+                }
+            }
+            return null;
+        }
+
+        // [start, end) 와 겹치는 모든 일정 (시작 시각 순)
+        private List<Slot> overlapping(long start, long end) {
+            List<Slot> result = new ArrayList<>();
+            for (List<Slot> sameStart : byStart.subMap(start - maxLength, false, end, false).values()) {
+                for (Slot slot : sameStart) {
+                    if (slot.end > start) {
+                        result.add(slot);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    // 일정 하나의 구간 [start, end) (epoch 초)
+    private record Slot(Long id, Long classId, long start, long end) {
+
+        private static Slot of(Schedule schedule) {
+            return new Slot(schedule.getId(), schedule.getClassroom().getId(),
+                    toEpochSecond(schedule.getDate(), schedule.getStartTime()),
+                    toEpochSecond(schedule.getDate(), schedule.getEndTime()));
+        }
+
+        private static Slot of(ScheduleDto schedule) {
+            return new Slot(schedule.getId(), schedule.getClassId(),
+                    toEpochSecond(schedule.getDate(), schedule.getStartTime()),
+                    toEpochSecond(schedule.getDate(), schedule.getEndTime()));
+        }
+
+        private static long toEpochSecond(LocalDate date, LocalTime time) {
+            return date.toEpochDay() * SECONDS_PER_DAY + time.toSecondOfDay();
+        }
+    }
+}
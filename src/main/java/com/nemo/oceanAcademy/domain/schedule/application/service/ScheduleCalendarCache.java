@@ -0,0 +1,67 @@
+package com.nemo.oceanAcademy.domain.schedule.application.service;
+import com.nemo.oceanAcademy.common.cache.GroupedCache;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleCalendarDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 캘린더 캐시.
+ * 사용자별로 (from, to) 조회 결과를 묶어 보관하고, 일정 생성/삭제나 수강 등록 시 영향을 받는 사용자의 묶음만 제거합니다.
+ * 조회 도중 해당 사용자가 무효화되었다면 조회 결과를 캐시에 넣지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCalendarCache {
+
+    private final MeterRegistry meterRegistry;
+
+    // 캐시에 보관할 최대 사용자 수
+    @Value("${schedule.calendar-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    // 사용자 한 명당 보관할 최대 조회 기간 수
+    @Value("${schedule.calendar-cache.maximum-ranges-per-user:16}")
+    private int maximumRangesPerUser;
+
+    // 항목 유지 시간 - 무효화하지 않는 변경은 이 시간 안에 반영됨
+    @Value("${schedule.calendar-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private GroupedCache<String, CalendarRange, List<ScheduleCalendarDto>> calendars;
+
+    @PostConstruct
+    public void init() {
+        calendars = new GroupedCache<>("scheduleCalendars", maximumSize, maximumRangesPerUser,
+                Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    /**
+     * 캐시된 캘린더를 반환하고, 없으면 loader 로 조회 후 저장
+     * @param userId 사용자 ID
+     * @param from   조회 시작 날짜
+     * @param to     조회 종료 날짜
+     * @param loader DB 조회
+     * @return List<ScheduleCalendarDto> 일정 목록
+     */
+    public List<ScheduleCalendarDto> get(String userId, LocalDate from, LocalDate to,
+                                         Supplier<List<ScheduleCalendarDto>> loader) {
+        return calendars.get(userId, new CalendarRange(from, to), () -> List.copyOf(loader.get()));
+    }
+
+    // 사용자들의 캘린더 제거 - 사용자마다 O(1), 전역 잠금 없음
+    public void evictUsers(Collection<String> userIds) {
+        calendars.invalidateAll(userIds);
+    }
+
+    private record CalendarRange(LocalDate from, LocalDate to) {
+    }
+}
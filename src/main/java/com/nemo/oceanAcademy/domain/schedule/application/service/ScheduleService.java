@@ -1,15 +1,37 @@
 package com.nemo.oceanAcademy.domain.schedule.application.service;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.FreeSlotDto;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleCalendarDto;
 import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleDto;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleRecurrenceDto;
 import com.nemo.oceanAcademy.domain.schedule.dataAccess.entity.Schedule;
 import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
 import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
 import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.participant.dataAccess.repository.ParticipantRepository;
 import com.nemo.oceanAcademy.common.exception.ResourceNotFoundException;
+import com.nemo.oceanAcademy.common.exception.ScheduleConflictException;
 import io.sentry.Sentry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +44,23 @@ public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
     private final ClassroomRepository classroomRepository;
+    private final ParticipantRepository participantRepository;
+    private final ScheduleCalendarCache scheduleCalendarCache;
+    private final InstructorScheduleIndex instructorScheduleIndex;
+    private final IcsFeedService icsFeedService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String INSERT_SCHEDULE =
+            "INSERT INTO schedules (classroom_id, content, date, start_time, end_time) VALUES (?, ?, ?, ?, ?)";
+
+    // 반복 규칙 하나로 생성할 수 있는 최대 일정 수
+    @Value("${schedule.recurrence.max-occurrences:500}")
+    private int maxOccurrences;
+
+    // 캘린더 한 번에 조회할 수 있는 최대 기간(일)
+    @Value("${schedule.calendar.max-range-days:93}")
+    private long maxCalendarRangeDays;
 
     /**
      * 강의 일정 목록 조회
@@ -60,12 +99,20 @@ public class ScheduleService {
             Classroom classroom = classroomRepository.findById(classId)
                     .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의실을 찾을 수 없습니다.", "Classroom not found"));
 
+            if (scheduleDto.getDate() == null || scheduleDto.getStartTime() == null || scheduleDto.getEndTime() == null
+                    || !scheduleDto.getEndTime().isAfter(scheduleDto.getStartTime())) {
+                throw new IllegalArgumentException("강의 종료 시각은 시작 시각보다 늦어야 합니다.");
+            }
+
             Schedule schedule = convertToEntity(scheduleDto);
             schedule.setClassroom(classroom);
-            Schedule savedSchedule = scheduleRepository.save(schedule);
+            // 같은 강사의 다른 일정과 겹치지 않을 때만 저장
+            ScheduleDto savedSchedule = instructorScheduleIndex.addWithoutConflict(classroom.getUser().getId(),
+                    List.of(scheduleDto), () -> List.of(convertToDto(scheduleRepository.save(schedule)))).get(0);
+            evictCalendars(classroom.getId(), classroom.getUser().getId());
 
-            return convertToDto(savedSchedule);
-        } catch (ResourceNotFoundException e) {
+            return savedSchedule;
+        } catch (ResourceNotFoundException | IllegalArgumentException | ScheduleConflictException e) {
             Sentry.captureException(e);
             throw e;
         } catch (Exception e) {
@@ -74,6 +121,139 @@ public class ScheduleService {
         }
     }
 
+    /**
+     * 반복 일정 생성 - 규칙을 날짜별 일정으로 펼친 뒤 한 트랜잭션에서 배치 INSERT
+     *
+     * @param classId 강의 ID
+     * @param recurrence 반복 규칙
+     * @param userId 사용자 ID (강사로 확인된 인증 사용자)
+     * @return List<ScheduleDto> 생성된 강의 일정 (날짜순)
+     */
+    public List<ScheduleDto> createRecurringSchedules(Long classId, ScheduleRecurrenceDto recurrence, String userId) {
+        try {
+            // 강의실은 존재 여부만 확인 (강사는 컨트롤러에서 확인한 userId)
+            if (!classroomRepository.existsById(classId)) {
+                throw new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의실을 찾을 수 없습니다.", "Classroom not found");
+            }
+
+            List<ScheduleDto> occurrences = expandRecurrence(classId, recurrence);
+            if (occurrences.isEmpty()) {
+                return occurrences;
+            }
+
+            // 같은 강사의 다른 일정과 겹치지 않을 때만 저장
+            List<ScheduleDto> created = instructorScheduleIndex.addWithoutConflict(userId,
+                    occurrences, () -> insertSchedules(classId, occurrences));
+            evictCalendars(classId, userId);
+            return created;
+        } catch (ResourceNotFoundException | IllegalArgumentException | ScheduleConflictException e) {
+            Sentry.captureException(e);
+            throw e;
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            throw new RuntimeException("반복 강의 일정 생성 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 일정들을 한 트랜잭션에서 배치 INSERT
+     *
+     * @param classId 강의 ID
+     * @param occurrences ID 가 없는 일정 목록
+     * @return List<ScheduleDto> 생성된 ID 가 채워진 일정 목록 (입력 순서)
+     */
+    private List<ScheduleDto> insertSchedules(Long classId, List<ScheduleDto> occurrences) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SCHEDULE, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ScheduleDto occurrence = occurrences.get(i);
+                        ps.setLong(1, classId);
+                        ps.setString(2, occurrence.getContent());
+                        ps.setDate(3, Date.valueOf(occurrence.getDate()));
+                        ps.setTime(4, Time.valueOf(occurrence.getStartTime()));
+                        ps.setTime(5, Time.valueOf(occurrence.getEndTime()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return occurrences.size();
+                    }
+                },
+                keyHolder));
+
+        // 생성된 키는 INSERT 순서와 같음
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<ScheduleDto> created = new ArrayList<>(occurrences.size());
+        for (int i = 0; i < occurrences.size(); i++) {
+            ScheduleDto occurrence = occurrences.get(i);
+            Number id = (Number) keys.get(i).values().iterator().next();
+            created.add(new ScheduleDto(id.longValue(), classId, occurrence.getContent(),
+                    occurrence.getDate(), occurrence.getStartTime(), occurrence.getEndTime()));
+        }
+        return created;
+    }
+
+    /**
+     * 강사의 빈 시간대 조회 - 기간 내 매일 [dayStart, dayEnd) 에서 duration 이상 비어 있는 구간
+     *
+     * @param instructorId 강사 ID
+     * @param from 조회 시작 날짜 (포함)
+     * @param to 조회 종료 날짜 (포함)
+     * @param dayStart 하루 중 검색 시작 시각
+     * @param dayEnd 하루 중 검색 종료 시각
+     * @param durationMinutes 최소 길이(분)
+     * @return List<FreeSlotDto> 날짜, 시각 순 빈 시간대
+     */
+    public List<FreeSlotDto> getFreeSlots(String instructorId, LocalDate from, LocalDate to,
+                                          LocalTime dayStart, LocalTime dayEnd, int durationMinutes) {
+        if (to.isBefore(from) || !dayEnd.isAfter(dayStart) || durationMinutes <= 0) {
+            throw new IllegalArgumentException("빈 시간대 조회 조건이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxCalendarRangeDays) {
+            throw new IllegalArgumentException("빈 시간대는 최대 " + maxCalendarRangeDays + "일까지 조회할 수 있습니다.");
+        }
+        try {
+            return instructorScheduleIndex.findFreeSlots(instructorId, from, to, dayStart, dayEnd,
+                    Duration.ofMinutes(durationMinutes));
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            throw new RuntimeException("빈 시간대 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 반복 규칙을 날짜별 일정으로 펼침
+     *
+     * @param classId 강의 ID
+     * @param recurrence 반복 규칙
+     * @return List<ScheduleDto> ID 가 없는 일정 목록 (날짜순)
+     */
+    private List<ScheduleDto> expandRecurrence(Long classId, ScheduleRecurrenceDto recurrence) {
+        if (recurrence.getEndDate().isBefore(recurrence.getStartDate())) {
+            throw new IllegalArgumentException("반복 종료 날짜가 시작 날짜보다 빠릅니다.");
+        }
+        if (!recurrence.getEndTime().isAfter(recurrence.getStartTime())) {
+            throw new IllegalArgumentException("강의 종료 시각은 시작 시각보다 늦어야 합니다.");
+        }
+
+        List<ScheduleDto> occurrences = new ArrayList<>();
+        for (LocalDate date = recurrence.getStartDate(); !date.isAfter(recurrence.getEndDate()); date = date.plusDays(1)) {
+            if (!recurrence.getDaysOfWeek().contains(date.getDayOfWeek())
+                    || (recurrence.getExcludedDates() != null && recurrence.getExcludedDates().contains(date))) {
+                continue;
+            }
+            if (occurrences.size() >= maxOccurrences) {
+                throw new IllegalArgumentException("반복 일정은 최대 " + maxOccurrences + "개까지 생성할 수 있습니다.");
+            }
+            occurrences.add(new ScheduleDto(null, classId, recurrence.getContent(),
+                    date, recurrence.getStartTime(), recurrence.getEndTime()));
+        }
+        return occurrences;
+    }
+
     /**
      * 강의 일정 삭제
      *
@@ -83,11 +263,20 @@ public class ScheduleService {
      */
     public void deleteSchedule(Long classId, Long scheduleId, String userId) {
         try {
-            Classroom classroom = classroomRepository.findById(classId)
+            classroomRepository.findById(classId)
                     .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의실을 찾을 수 없습니다.", "Classroom not found"));
             Schedule schedule = scheduleRepository.findById(scheduleId)
                     .orElseThrow(() -> new ResourceNotFoundException("해당하는 ID(" + scheduleId + ")의 일정을 찾을 수 없습니다.", "Schedule not found"));
+
+            // 다른 강의실의 일정은 이 경로로 삭제할 수 없음 (경로의 강의실 권한으로 다른 강의실 일정을 지우지 않도록)
+            Classroom classroom = schedule.getClassroom();
+            if (!classroom.getId().equals(classId)) {
+                throw new ResourceNotFoundException("해당하는 ID(" + classId + ")의 강의실에 ID(" + scheduleId + ")의 일정이 없습니다.", "Schedule not found");
+            }
+
             scheduleRepository.delete(schedule);
+            instructorScheduleIndex.remove(classroom.getUser().getId(), scheduleId);
+            evictCalendars(classroom.getId(), classroom.getUser().getId());
         } catch (ResourceNotFoundException e) {
             Sentry.captureException(e);
             throw e;
@@ -97,6 +286,41 @@ public class ScheduleService {
         }
     }
 
+    /**
+     * 내 캘린더 조회 - 사용자가 강사이거나 수강 중인 모든 강의실의 기간 내 일정
+     *
+     * @param userId 사용자 ID (인증된 사용자)
+     * @param from 조회 시작 날짜 (포함)
+     * @param to 조회 종료 날짜 (포함)
+     * @return List<ScheduleCalendarDto> 날짜, 시작 시각 순 일정 목록
+     */
+    public List<ScheduleCalendarDto> getCalendar(String userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료 날짜가 시작 날짜보다 빠릅니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxCalendarRangeDays) {
+            throw new IllegalArgumentException("캘린더는 최대 " + maxCalendarRangeDays + "일까지 조회할 수 있습니다.");
+        }
+        try {
+            return scheduleCalendarCache.get(userId, from, to, () -> {
+                List<Long> classroomIds = classroomRepository.findOwnedOrEnrolledClassroomIds(userId);
+                return classroomIds.isEmpty() ? List.of() : scheduleRepository.findCalendarSchedules(classroomIds, from, to);
+            });
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            throw new RuntimeException("캘린더 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 강의실 피드와 강의실의 강사, 수강생 캘린더 캐시 제거
+    private void evictCalendars(Long classId, String instructorId) {
+        List<String> userIds = new ArrayList<>(participantRepository.findUserIdsByClassroomId(classId));
+        userIds.add(instructorId);
+        scheduleCalendarCache.evictUsers(userIds);
+        icsFeedService.evictClassroom(classId);
+        icsFeedService.evictUsers(userIds);
+    }
+
     /**
      * 엔티티를 DTO로 변환
      *
@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+        @Index(name = "idx_schedules_classroom_date_start", columnList = "classroom_id, date, start_time")   // 강의실별 기간 조회, 캘린더
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -1,11 +1,16 @@
 package com.nemo.oceanAcademy.domain.schedule.dataAccess.repository;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleCalendarDto;
 import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleDto;
 import com.nemo.oceanAcademy.domain.schedule.dataAccess.entity.Schedule;
 import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +29,29 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             "s.id, s.classroom.id, s.content, s.date, s.startTime, s.endTime) " +
             "FROM Schedule s WHERE s.classroom.id = :classroomId")
     List<ScheduleDto> findSchedulesByClassroomId(@Param("classroomId") Long classroomId);
+
+    // 강의실들의 기간 내 일정 - 강의실 ID 목록은 ClassroomRepository.findOwnedOrEnrolledClassroomIds 로 먼저 조회
+    // (OR + IN 서브쿼리 없이 classroom_id IN (...) AND date BETWEEN 으로 idx_schedules_classroom_date_start 사용)
+    @Query("SELECT new com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleCalendarDto(" +
+            "s.id, c.id, c.name, s.content, s.date, s.startTime, s.endTime) " +
+            "FROM Schedule s JOIN s.classroom c " +
+            "WHERE s.classroom.id IN :classroomIds AND s.date BETWEEN :from AND :to AND c.deletedAt IS NULL " +
+            "ORDER BY s.date ASC, s.startTime ASC, s.id ASC")
+    List<ScheduleCalendarDto> findCalendarSchedules(@Param("classroomIds") Collection<Long> classroomIds,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
+
+    // 강사가 개설한 모든 강의실의 일정 (강사 일정 인덱스 적재용)
+    @Query("SELECT new com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleDto(" +
+            "s.id, c.id, s.content, s.date, s.startTime, s.endTime) " +
+            "FROM Schedule s JOIN s.classroom c WHERE c.user.id = :instructorId AND c.deletedAt IS NULL")
+    List<ScheduleDto> findSchedulesByInstructorId(@Param("instructorId") String instructorId);
+
+    // 강사의 기간 내 일정 잠금 조회 (SELECT ... FOR UPDATE) - 일정 저장 트랜잭션의 최종 겹침 검사용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Schedule s JOIN s.classroom c " +
+            "WHERE c.user.id = :instructorId AND c.deletedAt IS NULL AND s.date BETWEEN :from AND :to")
+    List<Schedule> findInstructorSchedulesForUpdate(@Param("instructorId") String instructorId,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
 }
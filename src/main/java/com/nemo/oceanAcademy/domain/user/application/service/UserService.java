@@ -1,6 +1,8 @@
 package com.nemo.oceanAcademy.domain.user.application.service;
 import com.nemo.oceanAcademy.common.exception.ResourceNotFoundException;
 import com.nemo.oceanAcademy.common.s3.S3ImageUtils;
+import com.nemo.oceanAcademy.domain.chat.application.service.ChatSenderCache;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
 import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
 import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
 import com.nemo.oceanAcademy.domain.user.application.dto.UserCreateDTO;
@@ -17,6 +19,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
 
 /**
@@ -28,6 +32,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final S3ImageUtils imageUtils;
+    private final ClassroomRepository classroomRepository;
+    private final ChatSenderCache chatSenderCache;
 
     /**
      * 사용자 정보 조회
@@ -91,6 +97,8 @@ public class UserService {
                     .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다.", "User not found"));
 
             // 사용자 정보 업데이트
+            boolean nicknameChanged = userUpdateDTO.getNickname() != null
+                    && !userUpdateDTO.getNickname().equals(user.getNickname());
             if (userUpdateDTO.getNickname() != null) {
                 user.setNickname(userUpdateDTO.getNickname());
             }
@@ -112,6 +120,12 @@ public class UserService {
             }
 
             userRepository.save(user); // 수정된 사용자 정보 저장
+            chatSenderCache.invalidate(userId);     // 채팅 작성자 표시에 닉네임, 프로필 이미지 반영
+
+            // 강의실 상세에 강사 닉네임이 포함되므로 강의실 수정 시각(Last-Modified)도 갱신
+            if (nicknameChanged) {
+                classroomRepository.touchByUserId(userId, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+            }
         } catch (ResourceNotFoundException e) {
             Sentry.captureException(e);
             throw e;
@@ -11,6 +11,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -66,6 +67,12 @@ public class User {
     @Column(nullable = true, name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 캘린더 구독(.ics) 주소 토큰 버전 - SQL 로 증가시키므로 엔티티 UPDATE 에서는 제외
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, name = "ics_token_version", updatable = false)
+    private Integer icsTokenVersion = 0;
+
     @PreRemove
     public void preRemove() {
         this.deletedAt = LocalDateTime.now(); // 삭제 시각 설정
@@ -0,0 +1,67 @@
+package com.nemo.oceanAcademy.domain.user.dataAccess.migration;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 사용자 캘린더 구독(.ics) 토큰 버전(ics_token_version) 컬럼 추가
+ * 기존 사용자는 0 으로 시작하며, 버전을 올리면 그 사용자에게 발급한 피드 주소가 모두 무효화됨
+ * 새 스키마는 테이블이 없으므로 건너뛰고, Hibernate 가 컬럼을 포함해 테이블을 생성
+ */
+@Component
+public class V3IcsTokenVersionMigration implements JavaMigration {
+
+    private static final String TABLE = "users";
+    private static final String COLUMN = "ics_token_version";
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("3");
+    }
+
+    @Override
+    public String getDescription() {
+        return "add users." + COLUMN;
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, identifier(metaData, TABLE), new String[]{"TABLE"})) {
+            if (!tables.next()) {
+                return;
+            }
+        }
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, identifier(metaData, TABLE), identifier(metaData, COLUMN))) {
+            if (columns.next()) {
+                return;
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE users ADD COLUMN " + COLUMN + " INT NOT NULL DEFAULT 0");
+        }
+    }
+
+    // 메타데이터 조회용 이름 - 대문자로 저장하는 DB(H2 등)에 맞춤
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase() : name;
+    }
+}
@@ -1,7 +1,13 @@
 package com.nemo.oceanAcademy.domain.user.dataAccess.repository;
 
 import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -9,4 +15,19 @@ public interface UserRepository extends JpaRepository<User, String> {
     boolean existsById(String id);
     boolean existsByNickname(String nickname);
     Optional<User> findById(String id);
+
+    // 사용자 행 잠금 조회 (SELECT ... FOR UPDATE) - 강사 단위 일정 저장을 서버 간에도 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") String id);
+
+    // 캘린더 구독(.ics) 토큰 버전 조회 - 탈퇴한 사용자는 없음
+    @Query("SELECT u.icsTokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findIcsTokenVersionById(@Param("id") String id);
+
+    // 캘린더 구독 토큰 버전 증가 - 이전에 발급한 피드 주소가 모두 무효화됨
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.icsTokenVersion = u.icsTokenVersion + 1 WHERE u.id = :id")
+    int incrementIcsTokenVersion(@Param("id") String id);
 }
@@ -0,0 +1,139 @@
+package com.nemo.oceanAcademy.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupedCacheTest {
+
+    private GroupedCache<String, Integer, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GroupedCache<>("test", 100, 4, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 그룹을_무효화하면_그_그룹의_항목만_다시_조회한다() {
+        cache.get("alice", 1, () -> "alice-1");
+        cache.get("alice", 2, () -> "alice-2");
+        cache.get("bob", 1, () -> "bob-1");
+
+        cache.invalidate("alice");
+
+        assertThat(cache.get("alice", 1, () -> "alice-1-new")).isEqualTo("alice-1-new");
+        assertThat(cache.get("alice", 2, () -> "alice-2-new")).isEqualTo("alice-2-new");
+        assertThat(cache.get("bob", 1, () -> "bob-1-new")).isEqualTo("bob-1");
+    }
+
+    @Test
+    void 조회_도중_같은_그룹이_무효화되면_결과를_캐시하지_않는다() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+
+        CompletableFuture<String> staleLoad = CompletableFuture.supplyAsync(() -> cache.get("alice", 1, () -> {
+            loading.countDown();
+            await(invalidated);
+            return "stale";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.invalidate("alice");
+        invalidated.countDown();
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+
+        assertThat(cache.get("alice", 1, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void 다른_그룹의_무효화는_진행_중인_조회의_저장을_막지_않는다() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+
+        CompletableFuture<String> load = CompletableFuture.supplyAsync(() -> cache.get("alice", 1, () -> {
+            loading.countDown();
+            await(invalidated);
+            return "alice-1";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.invalidate("bob");
+        invalidated.countDown();
+        load.get(5, TimeUnit.SECONDS);
+
+        assertThat(cache.get("alice", 1, () -> "reloaded")).isEqualTo("alice-1");
+    }
+
+    @Test
+    void 그룹의_항목_수가_한도를_넘으면_그룹을_새로_시작한다() {
+        for (int key = 1; key <= 4; key++) {
+            int value = key;
+            cache.get("alice", key, () -> "v" + value);
+        }
+        cache.get("alice", 5, () -> "v5");
+
+        assertThat(cache.get("alice", 5, () -> "reloaded")).isEqualTo("v5");
+        assertThat(cache.get("alice", 1, () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void 같은_그룹에_새_항목이_저장되어도_오래된_항목은_만료된다() throws Exception {
+        GroupedCache<String, Integer, String> shortLived =
+                new GroupedCache<>("short", 100, 4, Duration.ofMillis(200), new SimpleMeterRegistry());
+        shortLived.get("alice", 1, () -> "alice-1");
+        Thread.sleep(120);
+        shortLived.get("alice", 2, () -> "alice-2");     // 그룹은 다시 저장되지만 항목 1 의 저장 시각은 그대로
+        Thread.sleep(120);
+
+        assertThat(shortLived.get("alice", 1, () -> "alice-1-new")).isEqualTo("alice-1-new");
+        assertThat(shortLived.get("alice", 2, () -> "alice-2-new")).isEqualTo("alice-2");
+    }
+
+    @Test
+    void 동시_조회와_무효화가_섞여도_무효화_이후에는_새로_조회한다() throws Exception {
+        int users = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        AtomicInteger version = new AtomicInteger();
+        try {
+            // 조회와 무효화를 섞어 동시에 실행 - 무효화 뒤에는 반드시 다시 조회되어야 함
+            List<Future<?>> futures = new ArrayList<>();
+            for (int round = 0; round < 20; round++) {
+                for (int user = 0; user < users; user++) {
+                    String group = "user-" + user;
+                    futures.add(executor.submit(() -> cache.get(group, 1, () -> "v" + version.get())));
+                    futures.add(executor.submit(() -> cache.invalidate(group)));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        version.incrementAndGet();
+        for (int user = 0; user < users; user++) {
+            cache.invalidate("user-" + user);
+            assertThat(cache.get("user-" + user, 1, () -> "v" + version.get())).isEqualTo("v1");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.nemo.oceanAcademy.config;
+
+import com.nemo.oceanAcademy.domain.chat.application.exception.StompExceptionHandler;
+import com.nemo.oceanAcademy.domain.chat.application.interceptor.FilterChannelInterceptor;
+import com.nemo.oceanAcademy.domain.chat.application.interceptor.SlowConsumerInterceptor;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * relay 모드의 두 서버가 하나의 외부 STOMP 브로커(내장 Artemis)를 통해 메시지를 주고받는지 확인.
+ * 서버마다 WebSocketConfig 로 브로커 중계를 구성하고, 한 서버에서 발행한 메시지를 다른 서버의 구독자가 받는지 검증합니다.
+ */
+class StompBrokerRelayTwoNodeTest {
+
+    private static final String DESTINATION = "/topic/greetings/1";
+
+    private EmbeddedActiveMQ broker;
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port = freePort();
+        Configuration configuration = new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + port + "?protocols=STOMP;multicastPrefix=/topic/");
+        broker = new EmbeddedActiveMQ().setConfiguration(configuration);
+        broker.start();
+
+        nodeA = new Node(port);
+        nodeB = new Node(port);
+        nodeA.awaitBrokerAvailable();
+        nodeB.awaitBrokerAvailable();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.stop();
+        nodeB.stop();
+        broker.stop();
+    }
+
+    @Test
+    void 한_서버에서_발행한_메시지를_다른_서버의_구독자가_받는다() throws Exception {
+        nodeB.subscribe("session-b", DESTINATION);
+
+        nodeA.publish(DESTINATION, "hello from A");
+
+        Message<?> received = nodeB.awaitMessage("session-b");
+        assertThat(new String((byte[]) received.getPayload(), StandardCharsets.UTF_8)).isEqualTo("hello from A");
+        assertThat(SimpMessageHeaderAccessor.getDestination(received.getHeaders())).isEqualTo(DESTINATION);
+    }
+
+    @Test
+    void 두_서버의_구독자가_서로의_메시지를_모두_받는다() throws Exception {
+        nodeA.subscribe("session-a", DESTINATION);
+        nodeB.subscribe("session-b", DESTINATION);
+
+        nodeA.publish(DESTINATION, "from A");
+        nodeB.publish(DESTINATION, "from B");
+
+        assertThat(payloads(nodeA, "session-a")).containsExactlyInAnyOrder("from A", "from B");
+        assertThat(payloads(nodeB, "session-b")).containsExactlyInAnyOrder("from A", "from B");
+    }
+
+    private static String[] payloads(Node node, String sessionId) throws InterruptedException {
+        return new String[]{
+                new String((byte[]) node.awaitMessage(sessionId).getPayload(), StandardCharsets.UTF_8),
+                new String((byte[]) node.awaitMessage(sessionId).getPayload(), StandardCharsets.UTF_8)};
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // WebSocketConfig 의 relay 설정으로 만든 서버 하나의 브로커 중계
+    private static final class Node {
+        private final ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+        private final StompBrokerRelayMessageHandler relay;
+
+        private Node(int relayPort) {
+            WebSocketConfig config = new WebSocketConfig(
+                    mock(StompExceptionHandler.class), mock(FilterChannelInterceptor.class), mock(SlowConsumerInterceptor.class));
+            ReflectionTestUtils.setField(config, "brokerMode", "relay");
+            ReflectionTestUtils.setField(config, "relayHost", "127.0.0.1");
+            ReflectionTestUtils.setField(config, "relayPort", relayPort);
+            ReflectionTestUtils.setField(config, "relayClientLogin", "guest");
+            ReflectionTestUtils.setField(config, "relayClientPasscode", "guest");
+            ReflectionTestUtils.setField(config, "relaySystemLogin", "guest");
+            ReflectionTestUtils.setField(config, "relaySystemPasscode", "guest");
+
+            MessageBrokerRegistry registry = new MessageBrokerRegistry(clientInboundChannel, clientOutboundChannel);
+            config.configureMessageBroker(registry);
+            relay = ReflectionTestUtils.invokeMethod(registry, "getStompBrokerRelay", brokerChannel);
+            assertThat(relay).isNotNull();
+
+            clientOutboundChannel.subscribe(outbound::add);
+            relay.start();
+        }
+
+        private void awaitBrokerAvailable() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!relay.isBrokerAvailable() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(relay.isBrokerAvailable()).isTrue();
+        }
+
+        // 클라이언트 세션이 CONNECT 후 SUBSCRIBE - 구독이 브로커에 반영되도록 RECEIPT 까지 기다림
+        private void subscribe(String sessionId, String destination) throws InterruptedException {
+            StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+            connect.setSessionId(sessionId);
+            connect.setAcceptVersion("1.2");
+            connect.setHeartbeat(0, 0);
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+            assertThat(awaitCommand(sessionId, StompCommand.CONNECTED)).isNotNull();
+
+            StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            subscribe.setSessionId(sessionId);
+            subscribe.setSubscriptionId("sub-" + sessionId);
+            subscribe.setDestination(destination);
+            subscribe.setReceipt("receipt-" + sessionId);
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+            assertThat(awaitCommand(sessionId, StompCommand.RECEIPT)).isNotNull();
+        }
+
+        // 서버 코드가 SimpMessagingTemplate 으로 발행하는 것과 같은 경로 (brokerChannel → 시스템 세션)
+        private void publish(String destination, String payload) {
+            new SimpMessagingTemplate(brokerChannel).convertAndSend(destination, payload.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private Message<?> awaitMessage(String sessionId) throws InterruptedException {
+            return awaitCommand(sessionId, StompCommand.MESSAGE);
+        }
+
+        private Message<?> awaitCommand(String sessionId, StompCommand command) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (System.nanoTime() < deadline) {
+                Message<?> message = outbound.poll(100, TimeUnit.MILLISECONDS);
+                if (message == null) {
+                    continue;
+                }
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+                if (sessionId.equals(accessor.getSessionId()) && accessor.getCommand() == command) {
+                    return message;
+                }
+                if (accessor.getCommand() == StompCommand.ERROR) {
+                    throw new AssertionError("STOMP ERROR: " + accessor.getMessage());
+                }
+            }
+            throw new AssertionError(command + " not received for " + sessionId);
+        }
+
+        private void stop() {
+            relay.stop();
+        }
+    }
+}
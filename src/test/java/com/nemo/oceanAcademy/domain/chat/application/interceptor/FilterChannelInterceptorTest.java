@@ -0,0 +1,176 @@
+package com.nemo.oceanAcademy.domain.chat.application.interceptor;
+
+import com.nemo.oceanAcademy.domain.auth.security.JwtTokenProvider;
+import com.nemo.oceanAcademy.domain.chat.application.service.ChatSenderCache;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.participant.application.service.ClassroomMembershipCache;
+import com.nemo.oceanAcademy.domain.participant.dataAccess.repository.ParticipantRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * preSend 는 WebSocket 수신 스레드에서 실행되므로, 그 스레드에서 DB 조회(저장소 호출)가 일어나면 실패
+ */
+class FilterChannelInterceptorTest {
+
+    private static final String INBOUND_THREAD = "ws-inbound";
+    private static final String USER_ID = "user-1";
+    private static final String SESSION_ID = "session-1";
+
+    private final JwtTokenProvider jwtUtils = mock(JwtTokenProvider.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ClassroomRepository classroomRepository = mock(ClassroomRepository.class);
+    private final ParticipantRepository participantRepository = mock(ParticipantRepository.class);
+    private final MessageChannel inboundChannel = mock(MessageChannel.class);
+    private final MessageChannel outboundChannel = mock(MessageChannel.class);
+
+    // 수신 스레드에서 일어난 저장소 호출
+    private final List<String> blockingCalls = new CopyOnWriteArrayList<>();
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken(USER_ID, null, List.of());
+
+    private ClassroomMembershipCache membershipCache;
+    private ChatSenderCache chatSenderCache;
+    private FilterChannelInterceptor interceptor;
+    private ExecutorService inbound;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtUtils.extractJwt(any())).thenReturn("Bearer token");
+        when(jwtUtils.validateToken("token")).thenReturn(true);
+        when(jwtUtils.getAuthentication("token")).thenReturn(authentication);
+        when(userRepository.findById(anyString())).thenAnswer(invocation -> {
+            detectBlocking("userRepository.findById");
+            return Optional.of(User.builder().id(USER_ID).nickname("수강생").build());
+        });
+        when(classroomRepository.existsByIdAndUserId(anyLong(), anyString())).thenAnswer(invocation -> {
+            detectBlocking("classroomRepository.existsByIdAndUserId");
+            return false;
+        });
+        when(participantRepository.existsByClassroomIdAndUserId(anyLong(), anyString())).thenAnswer(invocation -> {
+            detectBlocking("participantRepository.existsByClassroomIdAndUserId");
+            return invocation.getArgument(0, Long.class) == 1L;     // 1번 강의실만 수강 중
+        });
+
+        membershipCache = new ClassroomMembershipCache(classroomRepository, participantRepository);
+        ReflectionTestUtils.setField(membershipCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(membershipCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(membershipCache, "negativeTtlSeconds", 60L);
+        membershipCache.init();
+
+        chatSenderCache = new ChatSenderCache(userRepository);
+        ReflectionTestUtils.setField(chatSenderCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(chatSenderCache, "ttlSeconds", 60L);
+        chatSenderCache.init();
+
+        interceptor = new FilterChannelInterceptor(jwtUtils, chatSenderCache, membershipCache);
+        ReflectionTestUtils.setField(interceptor, "frameSampleRate", 0.0);
+        ReflectionTestUtils.setField(interceptor, "clientOutboundChannel", outboundChannel);
+
+        inbound = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, INBOUND_THREAD));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inbound.shutdownNow();
+    }
+
+    @Test
+    void CONNECT_는_수신_스레드에서_사용자를_조회하지_않는다() throws Exception {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> connect = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        Message<?> result = preSendOnInbound(connect);
+
+        assertThat(result).isSameAs(connect);
+        assertThat(StompHeaderAccessor.wrap(result).getUser()).isSameAs(authentication);
+        // 발신자 정보는 다른 스레드에서 미리 적재됨
+        verify(userRepository, timeout(5000)).findById(USER_ID);
+        assertThat(chatSenderCache.getAsync(USER_ID).block().getNickname()).isEqualTo("수강생");
+        assertThat(blockingCalls).isEmpty();
+    }
+
+    @Test
+    void 캐시_미스_구독은_보류했다가_확인_후_다시_보낸다() throws Exception {
+        Message<byte[]> subscribe = subscribe(1L);
+
+        assertThat(preSendOnInbound(subscribe)).isNull();
+
+        verify(inboundChannel, timeout(5000)).send(subscribe);
+        verify(outboundChannel, never()).send(any());
+        assertThat(blockingCalls).isEmpty();
+    }
+
+    @Test
+    void 캐시_미스_구독이_비회원이면_ERROR_프레임으로_거부한다() throws Exception {
+        Message<byte[]> subscribe = subscribe(2L);
+
+        assertThat(preSendOnInbound(subscribe)).isNull();
+
+        verify(outboundChannel, timeout(5000)).send(argThat(message -> {
+            StompHeaderAccessor error = StompHeaderAccessor.wrap(message);
+            return error.getCommand() == StompCommand.ERROR && SESSION_ID.equals(error.getSessionId());
+        }));
+        verify(inboundChannel, never()).send(any());
+        assertThat(blockingCalls).isEmpty();
+    }
+
+    @Test
+    void 캐시에_있는_구독은_바로_통과시킨다() throws Exception {
+        assertThat(membershipCache.isMemberAsync(1L, USER_ID).block()).isTrue();
+        Message<byte[]> subscribe = subscribe(1L);
+
+        assertThat(preSendOnInbound(subscribe)).isSameAs(subscribe);
+        verify(inboundChannel, never()).send(any());
+        assertThat(blockingCalls).isEmpty();
+    }
+
+    private Message<byte[]> subscribe(long roomId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination("/topic/greetings/" + roomId);
+        accessor.setUser(authentication);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<?> preSendOnInbound(Message<?> message) throws Exception {
+        return inbound.submit(() -> interceptor.preSend(message, inboundChannel)).get(5, TimeUnit.SECONDS);
+    }
+
+    private void detectBlocking(String call) {
+        if (Thread.currentThread().getName().equals(INBOUND_THREAD)) {
+            blockingCalls.add(call);
+        }
+    }
+}
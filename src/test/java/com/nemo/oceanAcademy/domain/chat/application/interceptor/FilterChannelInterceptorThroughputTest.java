@@ -0,0 +1,122 @@
+package com.nemo.oceanAcademy.domain.chat.application.interceptor;
+
+import com.nemo.oceanAcademy.domain.auth.security.JwtTokenProvider;
+import com.nemo.oceanAcademy.domain.chat.application.service.ChatSenderCache;
+import com.nemo.oceanAcademy.domain.participant.application.service.ClassroomMembershipCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 프레임마다 stdout 에 출력하던 이전 방식과 현재 로그 경로의 처리량(messages/sec) 비교.
+ * 이전 방식은 제거된 System.out 출력 세 줄을 그대로 재현하며, 출력은 임시 파일로 보냅니다.
+ */
+@Tag("benchmark")
+class FilterChannelInterceptorThroughputTest {
+
+    private static final int THREADS = 8;
+    private static final int FRAMES_PER_THREAD = 20_000;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private FilterChannelInterceptor interceptor;
+    private ExecutorService executor;
+    private Message<byte[]> frame;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new FilterChannelInterceptor(mock(JwtTokenProvider.class), mock(ChatSenderCache.class), mock(ClassroomMembershipCache.class));
+        ReflectionTestUtils.setField(interceptor, "frameSampleRate", 0.01);
+        executor = Executors.newFixedThreadPool(THREADS);
+
+        // 채팅 전송 프레임 (토큰 헤더와 200 byte 정도의 본문)
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId("session-1");
+        accessor.setDestination("/app/chat/1");
+        accessor.setNativeHeader("Authorization", "Bearer " + "x".repeat(180));
+        String body = "{\"roomId\":1,\"content\":\"" + "안녕하세요".repeat(30) + "\"}";
+        frame = MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 프레임별_stdout_출력을_없앤_뒤_처리량이_늘어난다() throws Exception {
+        Path out = Files.createTempFile("stomp-stdout", ".log");
+        PrintStream originalOut = System.out;
+        double before;
+        try (PrintStream fileOut = new PrintStream(new BufferedOutputStream(new FileOutputStream(out.toFile())), true, StandardCharsets.UTF_8)) {
+            System.setOut(fileOut);
+            before = measure(message -> {
+                // 제거 전 preSend 의 출력
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+                System.out.println("message:" + message);
+                System.out.println("헤더 : " + message.getHeaders());
+                System.out.println("토큰" + accessor.getNativeHeader("Authorization"));
+                interceptor.preSend(message, channel);
+            });
+        } finally {
+            System.setOut(originalOut);
+            Files.deleteIfExists(out);
+        }
+        double after = measure(message -> interceptor.preSend(message, channel));
+
+        System.out.printf("stomp preSend throughput: stdout=%.0f msg/s, slf4j(sampled)=%.0f msg/s (%.1fx)%n", before, after, after / before);
+        assertThat(after).isGreaterThan(before);
+    }
+
+    // 워밍업 후 THREADS 개 스레드에서 프레임을 동시에 처리한 초당 메시지 수
+    private double measure(Consumer<Message<byte[]>> handler) throws Exception {
+        run(handler, FRAMES_PER_THREAD / 10);
+        long started = System.nanoTime();
+        run(handler, FRAMES_PER_THREAD);
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        return THREADS * FRAMES_PER_THREAD / seconds;
+    }
+
+    private void run(Consumer<Message<byte[]>> handler, int framesPerThread) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < framesPerThread; i++) {
+                    handler.accept(frame);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+}
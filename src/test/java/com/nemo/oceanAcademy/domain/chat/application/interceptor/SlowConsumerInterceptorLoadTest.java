@@ -0,0 +1,233 @@
+package com.nemo.oceanAcademy.domain.chat.application.interceptor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * clientOutboundChannel 과 같은 구성(ExecutorSubscribableChannel + 인터셉터 + 세션 데코레이터)으로
+ * 느린 세션 하나와 빠른 세션 여럿에 채팅방 메시지를 동시에 보내 적체 처리와 카운터 정합성을 확인
+ */
+class SlowConsumerInterceptorLoadTest {
+
+    private static final int MAX_PENDING = 200;
+    private static final int FAST_SESSIONS = 20;
+    private static final int ROOM_MESSAGES = 2_000;
+    private static final int OTHER_FRAMES = 100;
+    private static final int BURST = 100;     // 한 번에 보내는 채팅방 메시지 수 (한도보다 작음)
+    private static final int PUBLISHERS = 4;
+    private static final String SLOW = "slow";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> delivered = new ConcurrentHashMap<>();
+    // 느린 세션의 소켓 버퍼 - 테스트가 비우기 전까지 전송되지 않음 (ConcurrentWebSocketSessionDecorator 버퍼링과 같은 위치)
+    private final Queue<Message<?>> stalled = new ConcurrentLinkedQueue<>();
+
+    private SlowConsumerInterceptor interceptor;
+    private ExecutorService outboundExecutor;
+    private ExecutorSubscribableChannel outbound;
+    private ExecutorService publishers;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        interceptor = new SlowConsumerInterceptor(meterRegistry);
+        ReflectionTestUtils.setField(interceptor, "policy", "drop");
+        ReflectionTestUtils.setField(interceptor, "maxPendingMessages", MAX_PENDING);
+
+        outboundExecutor = Executors.newFixedThreadPool(8);
+        outbound = new ExecutorSubscribableChannel(outboundExecutor);
+        outbound.addInterceptor(interceptor);
+        outbound.subscribe(message -> {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            if (SLOW.equals(sessionId)) {
+                stalled.add(message);
+            } else {
+                sendToSocket(sessionId);
+            }
+        });
+        publishers = Executors.newFixedThreadPool(4);
+
+        WebSocketHandler handler = interceptor.decorate(new AbstractWebSocketHandler() {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) {
+                sessions.put(session.getId(), session);     // 추적용 데코레이터가 씌워진 세션
+            }
+        });
+        handler.afterConnectionEstablished(rawSession(SLOW));
+        for (int i = 0; i < FAST_SESSIONS; i++) {
+            handler.afterConnectionEstablished(rawSession("fast-" + i));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        publishers.shutdownNow();
+        outboundExecutor.shutdownNow();
+    }
+
+    @Test
+    void 느린_세션의_채팅방_메시지만_버리고_다른_세션과_프레임은_모두_전달한다() throws Exception {
+        List<String> sessionIds = new ArrayList<>(sessions.keySet());
+        long started = System.nanoTime();
+
+        // 브로커가 구독 세션마다 메시지를 보내듯 모든 세션에 채팅방 메시지를, 느린 세션에는 다른 프레임도 함께 보냄
+        // 빠른 세션은 묶음마다 소켓 전송을 마치므로 적체량이 한도에 닿지 않고, 느린 세션만 계속 쌓임
+        for (int burstStart = 0; burstStart < ROOM_MESSAGES; burstStart += BURST) {
+            int from = burstStart;
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < PUBLISHERS; p++) {
+                int publisher = p;
+                futures.add(publishers.submit(() -> {
+                    for (int i = from + publisher; i < from + BURST; i += PUBLISHERS) {
+                        for (String sessionId : sessionIds) {
+                            outbound.send(frame(sessionId, SimpMessageType.MESSAGE, "/topic/greetings/1"));
+                        }
+                        if (i < OTHER_FRAMES) {
+                            outbound.send(frame(SLOW, SimpMessageType.MESSAGE, "/topic/classes/1/live"));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            awaitFastDeliveries(from + BURST);
+        }
+        outboundExecutor.shutdown();
+        assertThat(outboundExecutor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        System.out.printf("slow-consumer load: %d frames in %d ms (%d frames/s)%n",
+                ROOM_MESSAGES * sessionIds.size(), elapsedMillis, ROOM_MESSAGES * sessionIds.size() * 1000L / elapsedMillis);
+
+        // 빠른 세션은 하나도 버리지 않음
+        for (int i = 0; i < FAST_SESSIONS; i++) {
+            assertThat(delivered.get("fast-" + i)).hasValue(ROOM_MESSAGES);
+        }
+        // 느린 세션은 다른 프레임을 모두 받고, 채팅방 메시지는 한도까지만 받음
+        long otherFrames = stalled.stream().filter(message -> !isRoomMessage(message)).count();
+        long roomFrames = stalled.size() - otherFrames;
+        assertThat(otherFrames).isEqualTo(OTHER_FRAMES);
+        assertThat(roomFrames).isLessThanOrEqualTo(MAX_PENDING);
+        assertThat(droppedFrames("1")).isEqualTo(ROOM_MESSAGES - roomFrames);
+        // 전송 스레드가 모두 처리했으므로 채팅방 대기 수는 0
+        assertThat(roomPending("1")).isZero();
+
+        // 소켓이 다시 흐르면 적체량이 0 으로 돌아와 한도만큼 다시 받음
+        int drained = stalled.size();
+        for (int i = 0; i < drained; i++) {
+            stalled.poll();
+            sendToSocket(SLOW);
+        }
+        ExecutorSubscribableChannel resumed = new ExecutorSubscribableChannel();   // 동기 채널
+        resumed.addInterceptor(interceptor);
+        resumed.subscribe(stalled::add);
+        for (int i = 0; i < MAX_PENDING; i++) {
+            assertThat(resumed.send(frame(SLOW, SimpMessageType.MESSAGE, "/topic/greetings/1"))).isTrue();
+        }
+        assertThat(resumed.send(frame(SLOW, SimpMessageType.MESSAGE, "/topic/greetings/1"))).isFalse();
+    }
+
+    @Test
+    void 채널에_들어가지_못한_프레임은_적체량에서_뺀다() {
+        for (int i = 0; i < MAX_PENDING * 2; i++) {
+            Message<?> message = frame(SLOW, SimpMessageType.MESSAGE, "/topic/greetings/1");
+            assertThat(interceptor.preSend(message, outbound)).isNotNull();
+            interceptor.afterSendCompletion(message, outbound, false, new IllegalStateException("queue full"));
+        }
+
+        assertThat(droppedFrames("1")).isZero();
+        assertThat(roomPending("1")).isZero();
+    }
+
+    @Test
+    void 처리_중_실패한_프레임은_적체량에서_뺀다() {
+        for (int i = 0; i < MAX_PENDING * 2; i++) {
+            Message<?> message = frame(SLOW, SimpMessageType.MESSAGE, "/topic/greetings/1");
+            assertThat(interceptor.preSend(message, outbound)).isNotNull();
+            interceptor.afterMessageHandled(message, outbound, msg -> { }, new IllegalStateException("handler failed"));
+        }
+
+        assertThat(droppedFrames("1")).isZero();
+        assertThat(roomPending("1")).isZero();
+    }
+
+    private void awaitFastDeliveries(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        for (int i = 0; i < FAST_SESSIONS; i++) {
+            AtomicInteger count = delivered.computeIfAbsent("fast-" + i, key -> new AtomicInteger());
+            while (count.get() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private void sendToSocket(String sessionId) {
+        try {
+            sessions.get(sessionId).sendMessage(new TextMessage("frame"));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private WebSocketSession rawSession(String id) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        doAnswer(invocation -> {
+            delivered.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+
+    private static Message<byte[]> frame(String sessionId, SimpMessageType type, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static boolean isRoomMessage(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return destination != null && destination.startsWith("/topic/greetings/");
+    }
+
+    private double droppedFrames(String room) {
+        var counter = meterRegistry.find("chat.websocket.dropped.frames").tag("room", room).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private double roomPending(String room) {
+        var gauge = meterRegistry.find("chat.websocket.room.pending").tag("room", room).gauge();
+        return gauge != null ? gauge.value() : 0;
+    }
+}
@@ -0,0 +1,117 @@
+package com.nemo.oceanAcademy.domain.chat.application.service;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SequenceGeneratorServiceLoadTest {
+
+    private static final int BLOCK_SIZE = 1000;
+    private static final int ROOMS = 4;
+    private static final int MESSAGES_PER_ROOM = 10_000;
+
+    // 여러 노드가 함께 쓰는 시퀀스 문서 (시퀀스 이름별 seq) 와 $inc 호출 횟수
+    private final ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
+    private ReactiveMongoOperations mongoOperations;
+
+    @BeforeEach
+    void setUp() {
+        mongoOperations = mock(ReactiveMongoOperations.class);
+        when(mongoOperations.findAndModify(any(Query.class), any(UpdateDefinition.class), any(FindAndModifyOptions.class), eq(Sequence.class)))
+                .thenAnswer(invocation -> {
+                    String seqName = (String) invocation.getArgument(0, Query.class).getQueryObject().get("_id");
+                    Document inc = (Document) invocation.getArgument(1, UpdateDefinition.class).getUpdateObject().get("$inc");
+                    long count = ((Number) inc.get("seq")).longValue();
+                    // 실제 왕복처럼 다른 스레드에서 지연 후 응답
+                    return Mono.delay(Duration.ofMillis(2))
+                            .map(tick -> {
+                                roundTrips.incrementAndGet();
+                                Sequence sequence = new Sequence();
+                                sequence.setId(seqName);
+                                sequence.setSeq(counters.computeIfAbsent(seqName, name -> new AtomicLong()).addAndGet(count));
+                                return sequence;
+                            });
+                });
+    }
+
+    @Test
+    void 구간_단위로_예약하면_메시지당_왕복이_구간당_한_번으로_줄어든다() {
+        SequenceGeneratorService service = newNode();
+
+        List<String> ids = generateConcurrently(service, ROOMS, MESSAGES_PER_ROOM);
+
+        assertThat(ids).hasSize(ROOMS * MESSAGES_PER_ROOM).doesNotHaveDuplicates();
+        // 방마다 MESSAGES_PER_ROOM / BLOCK_SIZE 번만 $inc 를 보냄 (메시지당 한 번이던 기존 방식은 40,000 번)
+        assertThat(roundTrips.get()).isEqualTo(ROOMS * MESSAGES_PER_ROOM / BLOCK_SIZE);
+    }
+
+    @Test
+    void 메시지마다_발급하면_메시지_수만큼_왕복한다() {
+        SequenceGeneratorService service = newNode();
+        int messages = 2_000;
+
+        Flux.range(0, messages)
+                .flatMap(i -> service.generateSequence("20261018_1"), 64)
+                .blockLast(Duration.ofSeconds(30));
+
+        assertThat(roundTrips.get()).isEqualTo(messages);
+    }
+
+    @Test
+    void 두_노드가_같은_방에_발급해도_ID가_겹치지_않는다() {
+        SequenceGeneratorService first = newNode();
+        SequenceGeneratorService second = newNode();
+
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        Flux.merge(
+                        Flux.range(0, 5_000).flatMap(i -> first.generateChatId(1L), 64),
+                        Flux.range(0, 5_000).flatMap(i -> second.generateChatId(1L), 64))
+                .subscribeOn(Schedulers.parallel())
+                .doOnNext(ids::add)
+                .blockLast(Duration.ofSeconds(30));
+
+        assertThat(ids).hasSize(10_000);
+        // 노드마다 5,000 건 = 구간 5 개, 두 노드 합쳐 10 번
+        assertThat(roundTrips.get()).isEqualTo(10);
+    }
+
+    private SequenceGeneratorService newNode() {
+        SequenceGeneratorService service = new SequenceGeneratorService();
+        ReflectionTestUtils.setField(service, "mongoOperations", mongoOperations);
+        ReflectionTestUtils.setField(service, "blockSize", BLOCK_SIZE);
+        return service;
+    }
+
+    private List<String> generateConcurrently(SequenceGeneratorService service, int rooms, int messagesPerRoom) {
+        return Flux.range(0, rooms * messagesPerRoom)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> service.generateChatId((long) (i % rooms) + 1))
+                .sequential()
+                .collectList()
+                .block(Duration.ofSeconds(60));
+    }
+}
@@ -0,0 +1,170 @@
+package com.nemo.oceanAcademy.domain.classroom.application.service;
+
+import com.nemo.oceanAcademy.common.exception.ClassroomFullException;
+import com.nemo.oceanAcademy.common.exception.ResourceNotFoundException;
+import com.nemo.oceanAcademy.common.s3.S3ImageUtils;
+import com.nemo.oceanAcademy.domain.category.application.service.CategoryCatalog;
+import com.nemo.oceanAcademy.domain.category.dataAccess.entity.Category;
+import com.nemo.oceanAcademy.domain.category.dataAccess.repository.CategoryRepository;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.participant.application.service.ClassroomMembershipCache;
+import com.nemo.oceanAcademy.domain.participant.dataAccess.repository.ParticipantRepository;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
+import com.nemo.oceanAcademy.domain.schedule.application.service.InstructorScheduleIndex;
+import com.nemo.oceanAcademy.domain.schedule.application.service.ScheduleCalendarCache;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")   // Flyway 가 있으면 기본값이 none
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // 신청마다 별도 트랜잭션으로 커밋되어야 함
+class ClassroomEnrollmentConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ClassroomService classroomService;
+    private ExecutorService executor;
+    private User instructor;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        classroomService = new ClassroomService(classroomRepository, categoryRepository, mock(CategoryCatalog.class),
+                participantRepository, userRepository, scheduleRepository, mock(S3ImageUtils.class),
+                mock(ClassroomMembershipCache.class), mock(ClassroomPageCache.class), mock(LiveClassroomRegistry.class),
+                mock(ScheduleCalendarCache.class), mock(InstructorScheduleIndex.class), mock(IcsFeedService.class),
+                transactionTemplate);
+        executor = Executors.newFixedThreadPool(THREADS);
+        instructor = saveUser();
+        category = categoryRepository.save(Category.builder().name("테스트").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_사용자의_동시_신청은_한_번만_등록된다() throws Exception {
+        Classroom classroom = saveClassroom(null);
+        User student = saveUser();
+
+        List<Throwable> failures = runConcurrently(THREADS * 2, i -> classroomService.enrollParticipant(student.getId(), classroom.getId()));
+
+        assertThat(failures).isEmpty();
+        assertThat(participantRepository.findUserIdsByClassroomId(classroom.getId())).containsExactly(student.getId());
+        assertThat(studentCount(classroom)).isEqualTo(1L);
+    }
+
+    @Test
+    void 정원을_넘는_동시_신청은_정원만큼만_등록된다() throws Exception {
+        int capacity = 5;
+        Classroom classroom = saveClassroom(capacity);
+        List<User> students = new ArrayList<>();
+        for (int i = 0; i < THREADS * 2; i++) {
+            students.add(saveUser());
+        }
+
+        List<Throwable> failures = runConcurrently(students.size(), i -> classroomService.enrollParticipant(students.get(i).getId(), classroom.getId()));
+
+        assertThat(failures).hasSize(students.size() - capacity).allMatch(ClassroomFullException.class::isInstance);
+        assertThat(participantRepository.findUserIdsByClassroomId(classroom.getId())).hasSize(capacity);
+        assertThat(studentCount(classroom)).isEqualTo(capacity);
+    }
+
+    @Test
+    void 없는_강의실이나_사용자의_신청은_찾을_수_없음으로_응답한다() {
+        Classroom classroom = saveClassroom(null);
+        User student = saveUser();
+
+        assertThatThrownBy(() -> classroomService.enrollParticipant(student.getId(), Long.MAX_VALUE))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> classroomService.enrollParticipant("missing-user", classroom.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(studentCount(classroom)).isZero();
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .id(UUID.randomUUID().toString())
+                .nickname(UUID.randomUUID().toString().substring(0, 8))
+                .build());
+    }
+
+    private Classroom saveClassroom(Integer capacity) {
+        // 강사, 카테고리는 영속 상태의 참조로 연결 (cascade PERSIST)
+        return transactionTemplate.execute(status -> classroomRepository.save(Classroom.builder()
+                .user(userRepository.getReferenceById(instructor.getId()))
+                .category(categoryRepository.getReferenceById(category.getId()))
+                .name("동시성 테스트")
+                .object("목표")
+                .description("소개")
+                .capacity(capacity)
+                .build()));
+    }
+
+    private long studentCount(Classroom classroom) {
+        return classroomRepository.findById(classroom.getId()).orElseThrow().getStudentCount();
+    }
+
+    private List<Throwable> runConcurrently(int count, IntConsumer task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.accept(index);
+                return null;
+            }));
+        }
+        start.countDown();
+
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        return failures;
+    }
+}
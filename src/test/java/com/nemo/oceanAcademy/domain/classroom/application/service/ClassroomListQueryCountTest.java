@@ -0,0 +1,179 @@
+package com.nemo.oceanAcademy.domain.classroom.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nemo.oceanAcademy.common.s3.S3ImageUtils;
+import com.nemo.oceanAcademy.domain.category.application.service.CategoryCatalog;
+import com.nemo.oceanAcademy.domain.category.dataAccess.entity.Category;
+import com.nemo.oceanAcademy.domain.category.dataAccess.repository.CategoryRepository;
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomCursor;
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.participant.application.service.ClassroomMembershipCache;
+import com.nemo.oceanAcademy.domain.participant.dataAccess.repository.ParticipantRepository;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
+import com.nemo.oceanAcademy.domain.schedule.application.service.InstructorScheduleIndex;
+import com.nemo.oceanAcademy.domain.schedule.application.service.ScheduleCalendarCache;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 강의실 목록 조회의 SQL 문 수 제한 - 한 페이지(12개)를 한 문장으로 조회해야 하며, 넘으면 실패.
+ * 목록 DTO 가 지연 로딩 연관(강사, 카테고리)을 읽으면 항목마다 SELECT 가 추가되어 이 테스트가 실패합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",                    // Flyway 가 있으면 기본값이 none
+        "spring.jpa.properties.hibernate.generate_statistics=true"      // 실행한 SQL 문 수 집계
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // 서비스 호출 그대로 트랜잭션 없이 조회
+class ClassroomListQueryCountTest {
+
+    private static final int PAGE_SIZE = 12;
+    private static final int CLASSROOMS = PAGE_SIZE + 3;
+    private static final long MAX_STATEMENTS_PER_PAGE = 1;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private ClassroomService classroomService;
+    private User instructor;
+    private User student;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        CategoryCatalog categoryCatalog = new CategoryCatalog(categoryRepository, new ObjectMapper());
+        ClassroomPageCache classroomPageCache = new ClassroomPageCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(classroomPageCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(classroomPageCache, "maximumPagesPerCategory", 100);
+        ReflectionTestUtils.setField(classroomPageCache, "ttlSeconds", 60L);
+        classroomPageCache.init();
+        LiveClassroomRegistry registry = new LiveClassroomRegistry(classroomRepository, mock(SimpMessagingTemplate.class), classroomPageCache);
+        classroomService = new ClassroomService(classroomRepository, categoryRepository, categoryCatalog,
+                participantRepository, userRepository, scheduleRepository, mock(S3ImageUtils.class),
+                mock(ClassroomMembershipCache.class), classroomPageCache, registry,
+                mock(ScheduleCalendarCache.class), mock(InstructorScheduleIndex.class), mock(IcsFeedService.class),
+                transactionTemplate);
+
+        // 한 페이지보다 많은 강의실을 만들고, 모두 라이브로 두고 수강 신청
+        instructor = saveUser();
+        student = saveUser();
+        category = categoryRepository.save(Category.builder().name(UUID.randomUUID().toString().substring(0, 8)).build());
+        categoryCatalog.reload();
+        for (int i = 0; i < CLASSROOMS; i++) {
+            Classroom classroom = saveClassroom();
+            registry.register(classroom.getId(), true, classroom.getVersion());
+            classroomService.enrollParticipant(student.getId(), classroom.getId());
+        }
+        registry.reload();      // 시작 시 적재와 같음 - 첫 목록 조회에서 적재하지 않도록
+    }
+
+    @Test
+    void 전체_목록은_한_문장으로_조회한다() {
+        assertSinglePage(() -> classroomService.getFilteredClassrooms(null, null, null, 0, PAGE_SIZE));
+        assertSinglePage(() -> classroomService.getFilteredClassroomsByCursor(null, null, null, null, PAGE_SIZE));
+    }
+
+    @Test
+    void 카테고리_목록은_한_문장으로_조회한다() {
+        assertSinglePage(() -> classroomService.getFilteredClassrooms(null, category.getId(), null, 0, PAGE_SIZE));
+        assertSinglePage(() -> classroomService.getFilteredClassroomsByCursor(null, category.getId(), null, null, PAGE_SIZE));
+    }
+
+    @Test
+    void 라이브_목록은_한_문장으로_조회한다() {
+        assertSinglePage(() -> classroomService.getFilteredClassrooms("live", category.getId(), null, 0, PAGE_SIZE));
+        assertSinglePage(() -> classroomService.getFilteredClassroomsByCursor("live", null, null, null, PAGE_SIZE));
+    }
+
+    @Test
+    void 수강_중인_목록은_한_문장으로_조회한다() {
+        assertSinglePage(() -> classroomService.getFilteredClassrooms("enrolled", null, student.getId(), 0, PAGE_SIZE));
+        assertSinglePage(() -> classroomService.getFilteredClassroomsByCursor("enrolled", category.getId(), student.getId(), null, PAGE_SIZE));
+    }
+
+    @Test
+    void 개설한_목록은_한_문장으로_조회한다() {
+        assertSinglePage(() -> classroomService.getFilteredClassrooms("created", null, instructor.getId(), 0, PAGE_SIZE));
+        List<ClassroomResponseDto> firstPage = assertSinglePage(() ->
+                classroomService.getFilteredClassroomsByCursor("created", null, instructor.getId(), null, PAGE_SIZE));
+
+        // 다음 페이지(커서)도 한 문장
+        ClassroomResponseDto last = firstPage.get(PAGE_SIZE - 1);
+        statistics.clear();
+        List<ClassroomResponseDto> nextPage = classroomService.getFilteredClassroomsByCursor("created", null, instructor.getId(),
+                ClassroomCursor.of(last), PAGE_SIZE);
+        assertThat(nextPage).hasSize(CLASSROOMS - PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    // 한 페이지 조회의 SQL 문 수를 확인하고, 강사 닉네임과 카테고리 이름이 채워졌는지 확인
+    private List<ClassroomResponseDto> assertSinglePage(Supplier<List<ClassroomResponseDto>> listQuery) {
+        statistics.clear();
+        List<ClassroomResponseDto> page = listQuery.get();
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("목록 한 페이지의 SQL 문 수")
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(page).hasSize(PAGE_SIZE)
+                .allSatisfy(classroom -> {
+                    assertThat(classroom.getInstructor()).isNotNull();
+                    assertThat(classroom.getCategory()).isNotNull();
+                });
+        return page;
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .id(UUID.randomUUID().toString())
+                .nickname(UUID.randomUUID().toString().substring(0, 8))
+                .build());
+    }
+
+    private Classroom saveClassroom() {
+        // 강사, 카테고리는 영속 상태의 참조로 연결 (cascade PERSIST)
+        return transactionTemplate.execute(status -> classroomRepository.save(Classroom.builder()
+                .user(userRepository.getReferenceById(instructor.getId()))
+                .category(categoryRepository.getReferenceById(category.getId()))
+                .name("목록 테스트")
+                .object("목표")
+                .description("소개")
+                .build()));
+    }
+}
@@ -0,0 +1,184 @@
+package com.nemo.oceanAcademy.domain.classroom.application.service;
+
+import com.nemo.oceanAcademy.common.s3.S3ImageUtils;
+import com.nemo.oceanAcademy.domain.category.application.service.CategoryCatalog;
+import com.nemo.oceanAcademy.domain.category.dataAccess.entity.Category;
+import com.nemo.oceanAcademy.domain.category.dataAccess.repository.CategoryRepository;
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomLiveStatusDto;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.participant.application.service.ClassroomMembershipCache;
+import com.nemo.oceanAcademy.domain.participant.dataAccess.repository.ParticipantRepository;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
+import com.nemo.oceanAcademy.domain.schedule.application.service.InstructorScheduleIndex;
+import com.nemo.oceanAcademy.domain.schedule.application.service.ScheduleCalendarCache;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")   // Flyway 가 있으면 기본값이 none
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // 전환마다 별도 트랜잭션으로 커밋되어야 함
+class ClassroomLiveToggleConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int TOGGLES = 64;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+    // 구독자에게 전송된 라이브 상태 (전송 순서)
+    private final List<ClassroomLiveStatusDto> events = Collections.synchronizedList(new ArrayList<>());
+
+    private LiveClassroomRegistry registry;
+    private ClassroomService classroomService;
+    private ExecutorService executor;
+    private Long classId;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> events.add(invocation.getArgument(1)))
+                .when(template).convertAndSend(anyString(), any(Object.class));
+        registry = new LiveClassroomRegistry(classroomRepository, template, mock(ClassroomPageCache.class));
+        classroomService = new ClassroomService(classroomRepository, categoryRepository, mock(CategoryCatalog.class),
+                participantRepository, userRepository, scheduleRepository, mock(S3ImageUtils.class),
+                mock(ClassroomMembershipCache.class), mock(ClassroomPageCache.class), registry,
+                mock(ScheduleCalendarCache.class), mock(InstructorScheduleIndex.class), mock(IcsFeedService.class),
+                transactionTemplate);
+        executor = Executors.newFixedThreadPool(THREADS);
+
+        User instructor = userRepository.save(User.builder()
+                .id(UUID.randomUUID().toString())
+                .nickname(UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        Category category = categoryRepository.save(Category.builder().name("테스트").build());
+        Classroom classroom = transactionTemplate.execute(status -> classroomRepository.save(Classroom.builder()
+                .user(userRepository.getReferenceById(instructor.getId()))
+                .category(categoryRepository.getReferenceById(category.getId()))
+                .name("라이브 테스트")
+                .object("목표")
+                .description("소개")
+                .build()));
+        classId = classroom.getId();
+        registry.register(classId, false, classroom.getVersion());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @RepeatedTest(5)
+    void 동시_반전은_유실되지_않고_전송은_버전_순서를_지킨다() throws Exception {
+        List<Supplier<ClassroomLiveStatusDto>> tasks = new ArrayList<>();
+        for (int i = 0; i < TOGGLES; i++) {
+            tasks.add(() -> classroomService.changeClassroomIsLive(classId, null));
+        }
+
+        List<ClassroomLiveStatusDto> results = runConcurrently(tasks);
+
+        // 반전마다 버전이 하나씩 올라가고, 홀수 번째 반전 후에만 라이브
+        assertThat(results).extracting(ClassroomLiveStatusDto::getVersion)
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, TOGGLES).boxed().toList());
+        assertThat(results).allMatch(live -> live.isActive() == (live.getVersion() % 2 == 1));
+
+        ClassroomLiveStatusDto stored = classroomRepository.findLiveStatus(classId).orElseThrow();
+        assertThat(stored.getVersion()).isEqualTo(TOGGLES);
+        assertThat(stored.isActive()).isFalse();
+        assertFinalState(stored);
+        assertThat(events).allMatch(event -> event.isActive() == (event.getVersion() % 2 == 1));
+    }
+
+    @RepeatedTest(5)
+    void 반전과_지정이_섞여도_레지스트리와_전송이_DB_와_일치한다() throws Exception {
+        List<Supplier<ClassroomLiveStatusDto>> tasks = new ArrayList<>();
+        for (int i = 0; i < TOGGLES; i++) {
+            Boolean isActive = switch (i % 4) {
+                case 0 -> true;
+                case 1 -> false;
+                default -> null;
+            };
+            tasks.add(() -> classroomService.changeClassroomIsLive(classId, isActive));
+        }
+        Collections.shuffle(tasks);
+
+        List<ClassroomLiveStatusDto> results = runConcurrently(tasks);
+
+        // 실제로 바뀐 경우에만 버전이 하나씩 올라감 - 변경 없는 요청은 그 시점의 버전(처음이면 0)을 반환
+        ClassroomLiveStatusDto stored = classroomRepository.findLiveStatus(classId).orElseThrow();
+        assertThat(results.stream().map(ClassroomLiveStatusDto::getVersion).filter(version -> version > 0).distinct().count())
+                .isEqualTo(stored.getVersion());
+        assertThat(results).allMatch(live -> live.getVersion() <= stored.getVersion());
+        assertFinalState(stored);
+    }
+
+    // 레지스트리는 DB 의 최종 상태를, 전송은 버전 오름차순으로 끝나며 마지막 전송은 최종 라이브 여부와 같음
+    private void assertFinalState(ClassroomLiveStatusDto stored) {
+        ClassroomLiveStatusDto registered = registry.getStatus(classId);
+        assertThat(registered.isActive()).isEqualTo(stored.isActive());
+        assertThat(registered.getVersion()).isEqualTo(stored.getVersion());
+
+        List<ClassroomLiveStatusDto> sent = List.copyOf(events);
+        for (int i = 1; i < sent.size(); i++) {
+            assertThat(sent.get(i).getVersion()).isGreaterThan(sent.get(i - 1).getVersion());
+        }
+        if (!sent.isEmpty()) {
+            assertThat(sent.get(sent.size() - 1).isActive()).isEqualTo(stored.isActive());
+        }
+    }
+
+    private List<ClassroomLiveStatusDto> runConcurrently(List<Supplier<ClassroomLiveStatusDto>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ClassroomLiveStatusDto>> futures = new ArrayList<>();
+        for (Supplier<ClassroomLiveStatusDto> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.get();
+            }));
+        }
+        start.countDown();
+
+        List<ClassroomLiveStatusDto> results = new ArrayList<>();
+        for (Future<ClassroomLiveStatusDto> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+}
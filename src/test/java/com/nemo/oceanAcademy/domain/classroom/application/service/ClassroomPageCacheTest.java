@@ -0,0 +1,109 @@
+package com.nemo.oceanAcademy.domain.classroom.application.service;
+
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassroomPageCacheTest {
+
+    private ClassroomPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClassroomPageCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(cache, "maximumPagesPerCategory", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        cache.init();
+    }
+
+    @Test
+    void 캐시된_페이지를_반환한다() {
+        cache.get("live", null, 0, 10, () -> page(false));
+
+        List<ClassroomResponseDto> cached = cache.get("live", null, 0, 10, () -> page(true));
+
+        assertThat(cached.get(0).getIsActive()).isFalse();
+    }
+
+    @Test
+    void 쓰기_이후에는_이전_페이지를_반환하지_않는다() {
+        cache.get("live", null, 0, 10, () -> page(false));
+        cache.get("live", 3, 0, 10, () -> page(false));
+
+        cache.evictCategory(3);     // 카테고리 3 강의실이 라이브로 전환됨
+
+        assertThat(cache.get("live", null, 0, 10, () -> page(true)).get(0).getIsActive()).isTrue();
+        assertThat(cache.get("live", 3, 0, 10, () -> page(true)).get(0).getIsActive()).isTrue();
+    }
+
+    @Test
+    void 다른_카테고리의_페이지는_유지한다() {
+        cache.get("live", 5, 0, 10, () -> page(false));
+
+        cache.evictCategory(3);
+
+        assertThat(cache.get("live", 5, 0, 10, () -> page(true)).get(0).getIsActive()).isFalse();
+    }
+
+    @Test
+    void 조회_도중_쓰기가_끝나면_조회_결과를_캐시하지_않는다() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+
+        // 쓰기 이전 상태를 읽은 조회가 무효화 이후에 끝남
+        CompletableFuture<List<ClassroomResponseDto>> staleLoad = CompletableFuture.supplyAsync(() ->
+                cache.get("live", 3, 0, 10, () -> {
+                    List<ClassroomResponseDto> stale = page(false);
+                    loading.countDown();
+                    await(written);
+                    return stale;
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.evictCategory(3);
+        written.countDown();
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS).get(0).getIsActive()).isFalse();
+
+        AtomicBoolean reloaded = new AtomicBoolean();
+        List<ClassroomResponseDto> next = cache.get("live", 3, 0, 10, () -> {
+            reloaded.set(true);
+            return page(true);
+        });
+
+        assertThat(reloaded).isTrue();
+        assertThat(next.get(0).getIsActive()).isTrue();
+    }
+
+    @Test
+    void 전체_제거_후에는_모든_페이지를_다시_조회한다() {
+        cache.get("live", 5, 0, 10, () -> page(false));
+        cache.get(null, null, 0, 10, () -> page(false));
+
+        cache.evictAll();
+
+        assertThat(cache.get("live", 5, 0, 10, () -> page(true)).get(0).getIsActive()).isTrue();
+        assertThat(cache.get(null, null, 0, 10, () -> page(true)).get(0).getIsActive()).isTrue();
+    }
+
+    private static List<ClassroomResponseDto> page(boolean isActive) {
+        return List.of(ClassroomResponseDto.builder().id(1L).categoryId(3).isActive(isActive).build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.nemo.oceanAcademy.domain.classroom.application.service;
+
+import com.nemo.oceanAcademy.domain.classroom.application.dto.ClassroomLiveStatusDto;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LiveClassroomRegistryTest {
+
+    private static final int CLASSROOMS = 8;
+    private static final int VERSIONS = 200;
+    private static final int THREADS = 16;
+
+    private final ClassroomRepository classroomRepository = mock(ClassroomRepository.class);
+    private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+    private final ClassroomPageCache classroomPageCache = mock(ClassroomPageCache.class);
+
+    private LiveClassroomRegistry registry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long classId = 1; classId <= CLASSROOMS; classId++) {
+            rows.add(new Object[]{classId, false, 0L});
+        }
+        when(classroomRepository.findAllLiveStatuses()).thenReturn(rows);
+
+        registry = new LiveClassroomRegistry(classroomRepository, template, classroomPageCache);
+        registry.reload();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @RepeatedTest(20)
+    void 순서가_뒤섞인_동시_변경에도_가장_높은_버전이_남는다() throws Exception {
+        // 강의실마다 버전 1..VERSIONS 의 변경을 만들고 (홀수 버전은 라이브) 순서를 섞어 동시에 반영
+        List<Runnable> updates = new ArrayList<>();
+        for (long classId = 1; classId <= CLASSROOMS; classId++) {
+            for (long version = 1; version <= VERSIONS; version++) {
+                long id = classId;
+                long v = version;
+                updates.add(() -> registry.update(id, v % 2 == 1, v));
+            }
+        }
+        Collections.shuffle(updates);
+        runConcurrently(updates);
+
+        for (long classId = 1; classId <= CLASSROOMS; classId++) {
+            ClassroomLiveStatusDto status = registry.getStatus(classId);
+            assertThat(status.getVersion()).isEqualTo(VERSIONS);
+            assertThat(status.isActive()).isEqualTo(VERSIONS % 2 == 1);
+        }
+        // 라이브 목록은 상태와 항상 일치해야 함
+        assertThat(registry.getLiveIds()).containsExactlyInAnyOrderElementsOf(liveIdsFromStatuses());
+    }
+
+    @RepeatedTest(20)
+    void 변경과_삭제가_동시에_일어나도_라이브_목록이_상태와_일치한다() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        for (long classId = 1; classId <= CLASSROOMS; classId++) {
+            for (long version = 1; version <= VERSIONS; version++) {
+                long id = classId;
+                long v = version;
+                tasks.add(() -> registry.update(id, true, v));
+            }
+        }
+        LongStream.rangeClosed(1, CLASSROOMS / 2).forEach(classId -> tasks.add(() -> registry.remove(classId)));
+        Collections.shuffle(tasks);
+        runConcurrently(tasks);
+
+        assertThat(registry.getLiveIds()).containsExactlyInAnyOrderElementsOf(liveIdsFromStatuses());
+    }
+
+    @Test
+    void 이전_버전의_변경은_무시하고_전송하지_않는다() {
+        registry.update(1L, true, 5);
+        registry.update(1L, false, 3);
+
+        ClassroomLiveStatusDto status = registry.getStatus(1L);
+        assertThat(status.isActive()).isTrue();
+        assertThat(status.getVersion()).isEqualTo(5);
+        assertThat(registry.getLiveIds()).containsExactly(1L);
+        // 버전 5 의 전환만 전송되고 버전 3 은 전송되지 않음
+        verify(template, times(1)).convertAndSend(eq("/topic/classes/1/live"), any(Object.class));
+    }
+
+    @Test
+    void 삭제하면_구독자에게_삭제_알림을_보내고_스트림을_끝낸다() {
+        List<ClassroomLiveStatusDto> received = new CopyOnWriteArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        registry.stream(1L).subscribe(received::add, error -> { }, () -> completed.set(true));
+
+        registry.update(1L, true, 1);
+        registry.remove(1L);
+        registry.update(1L, false, 2);      // 삭제 이후의 변경은 종료된 스트림에 전달되지 않음
+
+        assertThat(received).extracting(ClassroomLiveStatusDto::getVersion, ClassroomLiveStatusDto::isDeleted)
+                .containsExactly(tuple(0L, false), tuple(1L, false), tuple(Long.MAX_VALUE, true));
+        assertThat(completed).isTrue();
+        verify(template).convertAndSend(eq("/topic/classes/1/live"),
+                argThat((Object payload) -> payload instanceof ClassroomLiveStatusDto status && status.isDeleted()));
+    }
+
+    @RepeatedTest(20)
+    void 구독과_동시에_바뀐_상태도_구독자에게_전달된다() throws Exception {
+        // 구독 시작과 상태 변경이 겹쳐도 각 구독자가 마지막으로 받은 라이브 여부는 최신 상태와 같아야 함
+        List<List<ClassroomLiveStatusDto>> subscribers = new CopyOnWriteArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS * 4; i++) {
+            tasks.add(() -> {
+                List<ClassroomLiveStatusDto> received = new CopyOnWriteArrayList<>();
+                subscribers.add(received);
+                registry.stream(1L).subscribe(received::add);
+            });
+        }
+        for (long version = 1; version <= THREADS; version++) {
+            long v = version;
+            tasks.add(() -> registry.update(1L, v % 2 == 1, v));
+        }
+        Collections.shuffle(tasks);
+        runConcurrently(tasks);
+
+        boolean isActive = registry.getStatus(1L).isActive();
+        for (List<ClassroomLiveStatusDto> received : subscribers) {
+            assertThat(received).isNotEmpty();
+            assertThat(received.get(received.size() - 1).isActive()).isEqualTo(isActive);
+        }
+    }
+
+    private List<Long> liveIdsFromStatuses() {
+        List<Long> live = new ArrayList<>();
+        for (long classId = 1; classId <= CLASSROOMS; classId++) {
+            ClassroomLiveStatusDto status = registry.getStatus(classId);
+            if (status != null && status.isActive()) {
+                live.add(classId);
+            }
+        }
+        return live;
+    }
+
+    private void runConcurrently(List<Runnable> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nemo.oceanAcademy.domain.classroom.dataAccess.migration;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class V2StudentCountBackfillMigrationTest {
+
+    private final V2StudentCountBackfillMigration migration = new V2StudentCountBackfillMigration();
+
+    private Connection connection;
+    private Context context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID());
+        context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void 컬럼이_없던_기존_강의실의_수강_인원을_채운다() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE classrooms (id BIGINT PRIMARY KEY)");
+            statement.execute("CREATE TABLE participants (id BIGINT PRIMARY KEY, classroom_id BIGINT, user_id VARCHAR(36))");
+            statement.execute("INSERT INTO classrooms (id) VALUES (1), (2), (1500)");
+            statement.execute("INSERT INTO participants VALUES (1, 1, 'a'), (2, 1, 'b'), (3, 1500, 'a')");
+        }
+
+        migration.migrate(context);
+
+        assertThat(studentCount(1)).isEqualTo(2);
+        assertThat(studentCount(2)).isZero();
+        assertThat(studentCount(1500)).isEqualTo(1);     // 두 번째 구간
+    }
+
+    @Test
+    void 테이블이_없으면_건너뛴다() throws Exception {
+        migration.migrate(context);
+
+        try (ResultSet tables = connection.getMetaData().getTables(null, null, "CLASSROOMS", null)) {
+            assertThat(tables.next()).isFalse();
+        }
+    }
+
+    private long studentCount(long classId) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT student_count FROM classrooms WHERE id = " + classId)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
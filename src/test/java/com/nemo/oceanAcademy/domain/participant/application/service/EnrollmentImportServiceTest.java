@@ -0,0 +1,196 @@
+package com.nemo.oceanAcademy.domain.participant.application.service;
+
+import com.nemo.oceanAcademy.common.exception.ClassroomFullException;
+import com.nemo.oceanAcademy.common.s3.S3ImageUtils;
+import com.nemo.oceanAcademy.domain.category.application.service.CategoryCatalog;
+import com.nemo.oceanAcademy.domain.category.dataAccess.entity.Category;
+import com.nemo.oceanAcademy.domain.category.dataAccess.repository.CategoryRepository;
+import com.nemo.oceanAcademy.domain.classroom.application.service.ClassroomPageCache;
+import com.nemo.oceanAcademy.domain.classroom.application.service.ClassroomService;
+import com.nemo.oceanAcademy.domain.classroom.application.service.LiveClassroomRegistry;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.participant.application.dto.EnrollmentImportDto;
+import com.nemo.oceanAcademy.domain.participant.application.dto.EnrollmentImportResultDto;
+import com.nemo.oceanAcademy.domain.participant.application.dto.EnrollmentImportResultDto.Status;
+import com.nemo.oceanAcademy.domain.participant.dataAccess.repository.ParticipantRepository;
+import com.nemo.oceanAcademy.domain.schedule.application.service.IcsFeedService;
+import com.nemo.oceanAcademy.domain.schedule.application.service.InstructorScheduleIndex;
+import com.nemo.oceanAcademy.domain.schedule.application.service.ScheduleCalendarCache;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")   // Flyway 가 있으면 기본값이 none
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // chunk 마다 별도 트랜잭션으로 커밋되어야 함
+class EnrollmentImportServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    private EnrollmentImportService enrollmentImportService;
+    private ClassroomService classroomService;
+    private ExecutorService executor;
+    private User instructor;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        enrollmentImportService = new EnrollmentImportService(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate),
+                transactionTemplate, mock(ClassroomMembershipCache.class), mock(ScheduleCalendarCache.class),
+                mock(IcsFeedService.class));
+        ReflectionTestUtils.setField(enrollmentImportService, "chunkSize", 4);
+        classroomService = new ClassroomService(classroomRepository, categoryRepository, mock(CategoryCatalog.class),
+                participantRepository, userRepository, scheduleRepository, mock(S3ImageUtils.class),
+                mock(ClassroomMembershipCache.class), mock(ClassroomPageCache.class), mock(LiveClassroomRegistry.class),
+                mock(ScheduleCalendarCache.class), mock(InstructorScheduleIndex.class), mock(IcsFeedService.class),
+                transactionTemplate);
+        executor = Executors.newFixedThreadPool(THREADS);
+        instructor = saveUser();
+        category = categoryRepository.save(Category.builder().name("테스트").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 행별_결과를_실제_등록_여부대로_기록한다() throws Exception {
+        Classroom classroom = saveClassroom(3);
+        User enrolled = saveUser();
+        classroomService.enrollParticipant(enrolled.getId(), classroom.getId());
+        List<User> students = List.of(saveUser(), saveUser(), saveUser());
+
+        String csv = String.join("\n", "userId", "missing-user", instructor.getId(), enrolled.getId(),
+                students.get(0).getId(), students.get(1).getId(), students.get(0).getId(), students.get(2).getId());
+        EnrollmentImportDto result = enrollmentImportService.importCsv(classroom.getId(), csv(csv));
+
+        assertThat(result.getResults()).extracting(EnrollmentImportResultDto::getStatus).containsExactly(
+                Status.USER_NOT_FOUND, Status.INSTRUCTOR, Status.ALREADY_ENROLLED,
+                Status.ENROLLED, Status.ENROLLED, Status.DUPLICATE, Status.CLASSROOM_FULL);
+        assertThat(participantRepository.findUserIdsByClassroomId(classroom.getId())).containsExactlyInAnyOrder(
+                enrolled.getId(), students.get(0).getId(), students.get(1).getId());
+        assertThat(studentCount(classroom)).isEqualTo(3L);
+    }
+
+    @RepeatedTest(10)
+    void 단건_신청과_동시에_실행되어도_결과와_수강생_수가_일치한다() throws Exception {
+        int capacity = 12;
+        Classroom classroom = saveClassroom(capacity);
+        List<User> students = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            students.add(saveUser());
+        }
+        String csv = students.stream().map(User::getId).collect(Collectors.joining("\n"));
+
+        // 같은 사용자들에 대해 일괄 등록 두 건과 단건 신청을 동시에 실행
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<EnrollmentImportDto>> imports = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            imports.add(executor.submit(() -> {
+                start.await();
+                return enrollmentImportService.importCsv(classroom.getId(), csv(csv));
+            }));
+        }
+        List<Future<?>> singles = new ArrayList<>();
+        for (User student : students) {
+            singles.add(executor.submit(() -> {
+                start.await();
+                classroomService.enrollParticipant(student.getId(), classroom.getId());
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> single : singles) {
+            try {
+                single.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ClassroomFullException.class);
+            }
+        }
+        List<String> participants = participantRepository.findUserIdsByClassroomId(classroom.getId());
+        for (Future<EnrollmentImportDto> future : imports) {
+            // ENROLLED 는 실제로 등록되었고, CLASSROOM_FULL 로 기록된 사용자의 행은 남아 있지 않거나 다른 신청으로 등록됨
+            Map<Status, List<String>> byStatus = future.get(30, TimeUnit.SECONDS).getResults().stream()
+                    .collect(Collectors.groupingBy(EnrollmentImportResultDto::getStatus,
+                            Collectors.mapping(EnrollmentImportResultDto::getUserId, Collectors.toList())));
+            assertThat(byStatus.keySet()).isSubsetOf(Status.ENROLLED, Status.ALREADY_ENROLLED, Status.CLASSROOM_FULL);
+            assertThat(participants).containsAll(byStatus.getOrDefault(Status.ENROLLED, List.of()));
+        }
+        assertThat(participants).hasSize(capacity);
+        assertThat(studentCount(classroom)).isEqualTo(capacity);
+    }
+
+    private static ByteArrayInputStream csv(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .id(UUID.randomUUID().toString())
+                .nickname(UUID.randomUUID().toString().substring(0, 8))
+                .build());
+    }
+
+    private Classroom saveClassroom(Integer capacity) {
+        return transactionTemplate.execute(status -> classroomRepository.save(Classroom.builder()
+                .user(userRepository.getReferenceById(instructor.getId()))
+                .category(categoryRepository.getReferenceById(category.getId()))
+                .name("일괄 등록 테스트")
+                .object("목표")
+                .description("소개")
+                .capacity(capacity)
+                .build()));
+    }
+
+    private long studentCount(Classroom classroom) {
+        return classroomRepository.findById(classroom.getId()).orElseThrow().getStudentCount();
+    }
+}
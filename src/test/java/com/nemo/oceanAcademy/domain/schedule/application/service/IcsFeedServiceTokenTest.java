@@ -0,0 +1,74 @@
+package com.nemo.oceanAcademy.domain.schedule.application.service;
+
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IcsFeedServiceTokenTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private IcsFeedService icsFeedService;
+
+    @BeforeEach
+    void setUp() {
+        icsFeedService = new IcsFeedService(mock(ScheduleRepository.class), mock(ClassroomRepository.class),
+                userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(icsFeedService, "secret", "ics-secret");
+        when(userRepository.findIcsTokenVersionById("alice")).thenReturn(Optional.of(0));
+        when(userRepository.findIcsTokenVersionById("bob")).thenReturn(Optional.of(0));
+    }
+
+    @Test
+    void 발급한_토큰은_같은_피드와_사용자에서만_유효하다() {
+        String token = icsFeedService.createToken("classes", "1", "alice");
+
+        assertThat(icsFeedService.isValidToken("classes", "1", "alice", token)).isTrue();
+        assertThat(icsFeedService.isValidToken("classes", "2", "alice", token)).isFalse();
+        assertThat(icsFeedService.isValidToken("classes", "1", "bob", token)).isFalse();
+        assertThat(icsFeedService.isValidToken("classes", "1", "alice", null)).isFalse();
+    }
+
+    @Test
+    void 토큰_버전을_올리면_이전에_발급한_토큰은_무효가_된다() {
+        String userToken = icsFeedService.createToken("users", "alice", "alice");
+        String classroomToken = icsFeedService.createToken("classes", "1", "alice");
+        String otherUserToken = icsFeedService.createToken("users", "bob", "bob");
+
+        when(userRepository.findIcsTokenVersionById("alice")).thenReturn(Optional.of(1));
+
+        assertThat(icsFeedService.isValidToken("users", "alice", "alice", userToken)).isFalse();
+        assertThat(icsFeedService.isValidToken("classes", "1", "alice", classroomToken)).isFalse();
+        assertThat(icsFeedService.isValidToken("users", "alice", "alice",
+                icsFeedService.createToken("users", "alice", "alice"))).isTrue();
+        assertThat(icsFeedService.isValidToken("users", "bob", "bob", otherUserToken)).isTrue();
+    }
+
+    @Test
+    void 탈퇴한_사용자의_토큰은_무효다() {
+        String token = icsFeedService.createToken("users", "alice", "alice");
+
+        when(userRepository.findIcsTokenVersionById("alice")).thenReturn(Optional.empty());
+
+        assertThat(icsFeedService.isValidToken("users", "alice", "alice", token)).isFalse();
+    }
+
+    @Test
+    void 다른_서명_키로_만든_토큰은_무효다() {
+        String token = icsFeedService.createToken("users", "alice", "alice");
+
+        ReflectionTestUtils.setField(icsFeedService, "secret", "jwt-secret");
+
+        assertThat(icsFeedService.isValidToken("users", "alice", "alice", token)).isFalse();
+    }
+}
@@ -0,0 +1,185 @@
+package com.nemo.oceanAcademy.domain.schedule.application.service;
+
+import com.nemo.oceanAcademy.common.exception.ScheduleConflictException;
+import com.nemo.oceanAcademy.domain.category.dataAccess.entity.Category;
+import com.nemo.oceanAcademy.domain.category.dataAccess.repository.CategoryRepository;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.entity.Classroom;
+import com.nemo.oceanAcademy.domain.classroom.dataAccess.repository.ClassroomRepository;
+import com.nemo.oceanAcademy.domain.schedule.application.dto.ScheduleDto;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.entity.Schedule;
+import com.nemo.oceanAcademy.domain.schedule.dataAccess.repository.ScheduleRepository;
+import com.nemo.oceanAcademy.domain.user.dataAccess.entity.User;
+import com.nemo.oceanAcademy.domain.user.dataAccess.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")   // Flyway 가 있으면 기본값이 none
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // 저장마다 별도 트랜잭션으로 커밋되어야 함
+class InstructorScheduleIndexTest {
+
+    private static final int THREADS = 16;
+    private static final LocalDate DATE = LocalDate.of(2026, 11, 2);
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ClassroomRepository classroomRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 서버 두 대 - 인덱스(캐시)는 서버마다 따로 있음
+    private InstructorScheduleIndex nodeA;
+    private InstructorScheduleIndex nodeB;
+    private ExecutorService executor;
+    private User instructor;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = newIndex();
+        nodeB = newIndex();
+        executor = Executors.newFixedThreadPool(THREADS);
+        instructor = userRepository.save(User.builder()
+                .id(UUID.randomUUID().toString())
+                .nickname(UUID.randomUUID().toString().substring(0, 8))
+                .build());
+        category = categoryRepository.save(Category.builder().name("테스트").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 서버_두_대에서_동시에_겹치는_일정을_저장해도_하나만_저장된다() throws Exception {
+        List<Long> classIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            classIds.add(saveClassroom());
+        }
+        // 두 서버 모두 인덱스를 먼저 적재 - 사전 검사는 양쪽 모두 통과
+        nodeA.findFreeSlots(instructor.getId(), DATE, DATE, LocalTime.of(9, 0), LocalTime.of(18, 0), Duration.ofHours(1));
+        nodeB.findFreeSlots(instructor.getId(), DATE, DATE, LocalTime.of(9, 0), LocalTime.of(18, 0), Duration.ofHours(1));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            InstructorScheduleIndex node = i % 2 == 0 ? nodeA : nodeB;
+            Long classId = classIds.get(i);
+            // 강의실마다 10:00~11:00 부터 30분씩 어긋나게 - 모두 서로 겹침
+            LocalTime startTime = LocalTime.of(10, 0).plusMinutes(i % 2 * 30);
+            futures.add(executor.submit(() -> {
+                start.await();
+                add(node, classId, startTime, startTime.plusHours(1));
+                return null;
+            }));
+        }
+        start.countDown();
+
+        int conflicts = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ScheduleConflictException.class);
+                conflicts++;
+            }
+        }
+
+        assertThat(conflicts).isEqualTo(THREADS - 1);
+        assertThat(scheduleRepository.findSchedulesByInstructorId(instructor.getId())).hasSize(1);
+    }
+
+    @Test
+    void 다른_서버가_저장한_일정과_겹치면_인덱스가_오래되어도_거절한다() {
+        Long classId = saveClassroom();
+        nodeB.findFreeSlots(instructor.getId(), DATE, DATE, LocalTime.of(9, 0), LocalTime.of(18, 0), Duration.ofHours(1));
+
+        add(nodeA, classId, LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        // nodeB 의 인덱스에는 없는 일정 - DB 잠금 조회로 거절
+        assertThatThrownBy(() -> add(nodeB, classId, LocalTime.of(10, 30), LocalTime.of(11, 30)))
+                .isInstanceOf(ScheduleConflictException.class);
+        // 거절 후 인덱스를 다시 적재하므로 이후 사전 검사에서 바로 거절
+        assertThatThrownBy(() -> nodeB.addWithoutConflict(instructor.getId(),
+                List.of(candidate(classId, LocalTime.of(10, 15), LocalTime.of(10, 45))),
+                () -> { throw new AssertionError("사전 검사에서 거절되어야 함"); }))
+                .isInstanceOf(ScheduleConflictException.class);
+    }
+
+    @Test
+    void 겹치지_않는_일정은_모두_저장된다() {
+        Long classId = saveClassroom();
+
+        add(nodeA, classId, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        add(nodeB, classId, LocalTime.of(11, 0), LocalTime.of(12, 0));
+        add(nodeA, classId, LocalTime.of(12, 0), LocalTime.of(13, 0));
+
+        assertThat(scheduleRepository.findSchedulesByInstructorId(instructor.getId())).hasSize(3);
+    }
+
+    private List<ScheduleDto> add(InstructorScheduleIndex node, Long classId, LocalTime startTime, LocalTime endTime) {
+        ScheduleDto candidate = candidate(classId, startTime, endTime);
+        return node.addWithoutConflict(instructor.getId(), List.of(candidate), () -> {
+            Schedule saved = scheduleRepository.save(Schedule.builder()
+                    .classroom(classroomRepository.getReferenceById(classId))
+                    .content(candidate.getContent())
+                    .date(candidate.getDate())
+                    .startTime(candidate.getStartTime())
+                    .endTime(candidate.getEndTime())
+                    .build());
+            return List.of(new ScheduleDto(saved.getId(), classId, saved.getContent(),
+                    saved.getDate(), saved.getStartTime(), saved.getEndTime()));
+        });
+    }
+
+    private static ScheduleDto candidate(Long classId, LocalTime startTime, LocalTime endTime) {
+        return new ScheduleDto(null, classId, "강의", DATE, startTime, endTime);
+    }
+
+    private Long saveClassroom() {
+        // 강사, 카테고리는 영속 상태의 참조로 연결 (cascade PERSIST)
+        return transactionTemplate.execute(status -> classroomRepository.save(Classroom.builder()
+                .user(userRepository.getReferenceById(instructor.getId()))
+                .category(categoryRepository.getReferenceById(category.getId()))
+                .name("일정 테스트")
+                .object("목표")
+                .description("소개")
+                .build()).getId());
+    }
+
+    private InstructorScheduleIndex newIndex() {
+        InstructorScheduleIndex index = new InstructorScheduleIndex(scheduleRepository, userRepository, transactionTemplate);
+        ReflectionTestUtils.setField(index, "maximumSize", 100L);
+        ReflectionTestUtils.setField(index, "expireAfterAccessMinutes", 30L);
+        index.init();
+        return index;
+    }
+}